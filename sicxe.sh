@@ -0,0 +1,70 @@
+#!/bin/sh
+#
+# Startup-optimized launcher for the SIC/XE assembler.
+#
+#   ./sicxe.sh build                 compile src/ into bin/, package bin/sicxe.jar and
+#                                    train the class data sharing archive bin/sicxe.jsa
+#   ./sicxe.sh startup [runs]        compare time-to-output of the sample input with and
+#                                    without the archive (Assembler -startup)
+#   ./sicxe.sh [assembler options]   assemble input.txt in the current directory
+#
+# The archive holds the parsed and verified classes loaded while assembling the
+# sample input, so later runs map them instead of loading them from the jar and
+# the JDK image. It is rebuilt when the jar is newer, and skipped on JDKs that do
+# not support dynamic archives (before 13). JAVA_OPTS replaces the default JVM
+# options, which favor short runs (C1 only, serial GC).
+
+HOME_DIR=$(cd "$(dirname "$0")" && pwd)
+BIN_DIR="$HOME_DIR/bin"
+JAR="$BIN_DIR/sicxe.jar"
+ARCHIVE="$BIN_DIR/sicxe.jsa"
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAVAC=${JAVA_HOME:+$JAVA_HOME/bin/}javac
+JAVA_OPTS=${JAVA_OPTS:--XX:TieredStopAtLevel=1 -XX:+UseSerialGC}
+
+build()
+{
+	# sources are written in MS949 (Korean comments)
+	"$JAVAC" -encoding MS949 -d "$BIN_DIR" "$HOME_DIR"/src/*.java || exit 1
+	(cd "$BIN_DIR" && jar cfe sicxe.jar Assembler *.class) || exit 1
+	rm -f "$ARCHIVE"
+
+	# training run: assemble the sample input in a scratch directory and dump the
+	# classes loaded by the run when the JVM exits
+	TRAIN_DIR=$(mktemp -d)
+	cp "$HOME_DIR/inst.data" "$HOME_DIR/input.txt" "$TRAIN_DIR"
+	(cd "$TRAIN_DIR" && "$JAVA" $JAVA_OPTS -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$JAR" Assembler > /dev/null 2>&1)
+	rm -rf "$TRAIN_DIR"
+
+	if [ -f "$ARCHIVE" ]; then
+		echo "built $JAR and $ARCHIVE"
+	else
+		echo "built $JAR (class data sharing archive not supported by this JVM)"
+	fi
+}
+
+if [ "$1" = "build" ]; then
+	build
+	exit 0
+fi
+
+if [ ! -f "$JAR" ] || [ -n "$(find "$HOME_DIR/src" -name '*.java' -newer "$JAR" | head -n 1)" ]; then
+	build > /dev/null
+fi
+
+# the archive is only valid for the jar it was trained with
+SHARE_OPTS=
+if [ -f "$ARCHIVE" ] && [ ! "$JAR" -nt "$ARCHIVE" ]; then
+	SHARE_OPTS="-XX:SharedArchiveFile=$ARCHIVE -Xshare:auto"
+fi
+
+if [ "$1" = "startup" ]; then
+	RUNS=${2:-20}
+	cd "$HOME_DIR" || exit 1
+	if [ -n "$SHARE_OPTS" ]; then
+		exec "$JAVA" -cp "$JAR" Assembler -startup "$RUNS" -corpus "$HOME_DIR/input.txt" -cds "$ARCHIVE"
+	fi
+	exec "$JAVA" -cp "$JAR" Assembler -startup "$RUNS" -corpus "$HOME_DIR/input.txt"
+fi
+
+exec "$JAVA" $JAVA_OPTS $SHARE_OPTS -cp "$JAR" Assembler "$@"
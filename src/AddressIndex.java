@@ -0,0 +1,101 @@
+import java.util.Arrays;
+
+/**
+ *  section SymbolTable  ּҷ ɺ ã  . <br>
+ * ɺ ּҸ ĵ 迭 Ͽ, ־ ּ    ɺ(floor) ּ   ɺ O(log n) ã´. <br>
+ * ̳   "   ̺ + Ÿ" ǥ  Ѵ.   SymbolTable ٲ ٽ  Ѵ.
+ */
+public class AddressIndex
+{
+	//   symbol table
+	SymbolTable table;
+
+	// ּ  ĵ ɺ ּҿ table  ġ. ּҰ ٸ  ǵ ɺ տ 
+	int[] addresses;
+	int[] positions;
+
+	/**
+	 * symbol table ɺ ּ  Ͽ  .
+	 * 
+	 * @param table:   symbol table
+	 */
+	public AddressIndex(SymbolTable table)
+	{
+		this.table = table;
+		int size = table.getSize();
+
+		// ּҸ  32Ʈ, ġ  32Ʈ    
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++)
+			keys[i] = ((long) table.getLocation(i) << 32) | i;
+		Arrays.sort(keys);
+
+		addresses = new int[size];
+		positions = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			addresses[i] = (int) (keys[i] >> 32);
+			positions[i] = (int) keys[i];
+		}
+	}
+
+	/**
+	 * ־ ּ  ּҸ  ɺ    ɺ ã´.  ּ ɺ ̸  ǵ ɺ ã´.
+	 * 
+	 * @param address: ã ּ
+	 * @return: symbol table  ġ. شϴ ɺ  -1
+	 */
+	public int floor(int address)
+	{
+		// address ū ù ּ ٷ 
+		int index = lowerBound(address + 1L) - 1;
+		if (index < 0)
+			return -1;
+
+		return positions[lowerBound(addresses[index])];
+	}
+
+	/**
+	 * ּҰ from ̻ to ̸ ɺ ּ  ã´.
+	 * 
+	 * @param from:   ּ
+	 * @param to:   ּ ( )
+	 * @return: symbol table  ġ
+	 */
+	public int[] range(int from, int to)
+	{
+		int start = lowerBound(from), end = lowerBound(to);
+
+		return end > start ? Arrays.copyOfRange(positions, start, end) : new int[0];
+	}
+
+	/**
+	 * ο  ɺ  Ѵ.
+	 */
+	public int getSize()
+	{
+		return addresses.length;
+	}
+
+	/**
+	 * ּҰ address ̻ ù ׸ ġ ã´. ( ˻)
+	 * 
+	 * @param address: ã ּ. int  Ѵ  ޱ  long 
+	 * @return: ĵ 迭  ġ.  ּҰ ۴ٸ 迭 ũ
+	 */
+	private int lowerBound(long address)
+	{
+		int low = 0, high = addresses.length;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (addresses[middle] < address)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+}
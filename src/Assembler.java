@@ -1,5 +1,15 @@
 import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Assembler :  α׷ SIC/XE ӽ  Assembler α׷  ƾ̴. α׷  ۾ 
@@ -46,8 +56,66 @@ public class Assembler
 	// α׷ section modification record ۼϱ   table ϴ 
 	ArrayList<SymbolTable> modifList;
 
-	static int locCounter; // location counter
-	static int programNumber;  // section program ȣ ϴ 
+	// memory-mapped   pass2 ڵ带 ٷ  writer. null̸ codeList 
+	MappedRecordWriter objectWriter;
+	// pipeline 忡 pass1 ϼ  pass2 worker Ѱִ queue. null̸ pipeline 尡 ƴ
+	BlockingQueue<Section> sectionQueue;
+	// ϼ  ū ̺   Ͽ ޸𸮸  .   м  ּ 
+	boolean compactTokens;
+	//   м  parse cache  
+	boolean parseCacheEnabled = true;
+	// ϼ ǿ  peephole ȭ. null̸ ȭ 
+	PeepholeOptimizer optimizer;
+	// heap 뷮 memoryBudget  ϼ ǵ Űܵ ӽ . null̸ ű 
+	SectionSpillFile spillFile;
+	long memoryBudget;
+	// ϼ  ɾ İ ּ   ڵ  
+	boolean relaxFormats;
+	// relaxation ݺ Ƚ, 4 ٲ ɾ , ɸ ð (nano second)
+	int relaxIterations, relaxPromoted;
+	long relaxTime;
+	// lexInput ̸ м  lineList  ο  token. null̸ pass1  پ м
+	Token[] lexedTokens;
+	//  ڵ带 codeList  ʰ ٷ Ѱ . null̸ codeList 
+	RecordSink recordSink;
+	// Է ù  ü α׷  ° .  Է ϴ worker 0 ƴ
+	int sectionOffset;
+	// Է ù  ü α׷  °  .  Է ϴ worker 0 ƴ
+	int lineOffset;
+	// ϼ  ּҿ ҽ ڵ  ȣ  source map  ̸. null̸  
+	String sourceMapFile;
+	SourceMap.Writer sourceMap;
+	// single pass 忡  ǵ  ɺ, ּҰ   ͷ ϴ ɾ fixup ̺
+	FixupTable symbolFixups, literalFixups;
+
+	/** pipeline 忡 pass2 worker Ѱֱ    ִ  ִ  */
+	static final int PIPELINE_CAPACITY = 4;
+	/**
+	 * Բ    ɼǵ.   ù° ɼ  ɼǵ Բ   . <br>
+	 * -shards workerԴ -compact, -relax, -optimize, -srcmap, -noparsecache ޵ǰ, -onepass, -lazy  ü
+	 * ٽ 캸 ó ٸ    , -mmap ü ũ⸦ ̸ ؾ ϹǷ  ʷ ϰų
+	 * ϴ İ Բ   .
+	 */
+	static final String[][] CONFLICTING_OPTIONS = {
+			{ "-shards", "-binsym", "-mmap", "-pipeline", "-lex", "-onepass", "-stream", "-budget", "-lazy" },
+			{ "-onepass", "-relax", "-optimize", "-compact", "-budget", "-binsym", "-mmap", "-pipeline", "-stream", "-lazy" },
+			{ "-lazy", "-mmap", "-pipeline", "-stream", "-budget", "-binsym" },
+			{ "-mmap", "-pipeline", "-stream", "-gzip" },
+			{ "-pipeline", "-stream", "-budget" },
+			{ "-stream", "-budget" } };
+	/** -bench 忡 ּҷ ɺ ã ð   Ǻ ˻ Ƚ */
+	static final int ADDRESS_LOOKUP_QUERIES = 10000;
+
+	//  Assembler ü ÿ   ֵ ü  
+	int locCounter; // location counter
+	int programNumber;  // section program ȣ ϴ 
+
+	// reset  Ǻ ̺.     ʰ ٽ 
+	ArrayList<SymbolTable> spareSymbolTables = new ArrayList<>();
+	ArrayList<TokenTable> spareTokenTables = new ArrayList<>();
+	// ڵ  ٰ Text record  object code  buffer. 뷮 ϸ ٽ 
+	StringBuilder recordBuffer = new StringBuilder();
+	StringBuilder textBuffer = new StringBuilder();
 
 	/**
 	 * Ŭ ʱȭ. instruction Table ʱȭ ÿ Ѵ.
@@ -56,9 +124,21 @@ public class Assembler
 	 *            : instruction  ۼ  ̸.
 	 */
 	public Assembler(String instFile)
+	{
+		this(new InstTable(instFile));
+	}
+
+	/**
+	 * ̹ о instruction table ϴ Assembler . instruction table ٲ Ƿ  Assembler
+	 * Բ   ,  table ϴ Assembler parse cache м  Բ Ѵ.
+	 * 
+	 * @param instTable
+	 *            :  instruction table
+	 */
+	public Assembler(InstTable instTable)
 	{
 		// ʿ  Ҵ
-		instTable = new InstTable(instFile);
+		this.instTable = instTable;
 		lineList = new ArrayList<String>();
 		symtabList = new ArrayList<SymbolTable>();
 		literalList = new ArrayList<SymbolTable>();
@@ -73,258 +153,2429 @@ public class Assembler
 	 */
 	public static void main(String[] args)
 	{
+		// mapped:   ũ⸦ ̸ Ͽ memory-mapped Ϸ ٷ   (-mmap)
+		// stats:  ó ִ ޸ 뷮   (-stats)
+		// pipelined: ϼ Ǻ pass2 ÿ   (-pipeline)
+		// streamCapacity: ڵ iterator   о     ִ ڵ  (-stream <ڵ >). 0̸  
+		// parseCache:   м    (-noparsecache )
+		// shardWorkers: Է  迡  ÿ  worker μ  (-shards <μ >). 0̸  
+		// workerArgs:  Է ϳ ϴ worker   Է,  , ù  ȣ ù     (-worker <Է> <Ʈ> <symtab> < ȣ> < >)
+		// singlePass: pass1, pass2  ʰ     (-onepass)
+		// lexThreads: pass1  ε ķ м thread  (-lex <thread >). 0̸ pass1  پ м
+		// compact: ϼ  ū   ϰ ּ   (-compact)
+		// binarySymtab: ˻  symbol table ϵ   (-binsym)
+		// relax: ɾ İ ּ   ڵ   (-relax)
+		// optimize: ʿ ɾ   (-optimize)
+		// budget: heap 뷮 ѵ (-budget <MB>).  ϼ ǵ ӽ Ϸ ű. 0̸ ѵ 
+		// benchRuns, warmupRuns: ó   , warmup  Ƚ (-bench <Ƚ>, -warmup <Ƚ>). benchRuns 0̸  
+		// corpusFile:   Է  (-corpus <>)
+		// corpusSections, corpusLines:  Է    Ǻ   (-generate < > < >)
+		// dataCorpus:  Է BYTE, WORD  ̺ ַ   (-data)
+		// pooled: ó  忡  Assembler pool  Assembler δ Ҵ緮   (-pool)
+		// startupRuns:  ð     Ƚ (-startup <Ƚ>). 0̸  . Է corpusFile
+		// archiveFile:  ð   class data sharing archive  (-cds <>)
+		// incrementalEdits:    忡 ĥ   (-incremental < >). 0̸  . Է corpusFile
+		// disasmInput, disasmOutput:  Ʈ α׷ ϰ    (-disasm <Ʈ > < >)
+		// labelFile:  Ͽ ̺ ǥ   symbol table  (-labels <>)
+		// sourceMap: ּҸ ҽ ڵ  ǵ source map ϵ   (-srcmap)
+		// whereArgs: source map Ͽ ã  ̸ 16 ּ (-where <source map > <> <ּ>)
+		// compressOutput: Ʈ α׷ symbol table gzip Ͽ ".gz" Ϸ   (-gzip)
+		// lazyArgs: pass1   object code    ̸ 16 ּ  (-lazy <> <> <>)
+		boolean mapped = false, stats = false, pipelined = false, compact = false, binarySymtab = false, relax = false;
+		boolean optimize = false, singlePass = false, parseCache = true, dataCorpus = false, pooled = false, sourceMap = false;
+		boolean compressOutput = false;
+		int lexThreads = 0, budget = 0, streamCapacity = 0, shardWorkers = 0;
+		String[] workerArgs = null, whereArgs = null, lazyArgs = null;
+		ArrayList<String> workerOptions = new ArrayList<>();
+		int benchRuns = 0, warmupRuns = 3, corpusSections = 0, corpusLines = 0, startupRuns = 0, incrementalEdits = 0;
+		String corpusFile = "input.txt", disasmInput = null, disasmOutput = null, labelFile = null, archiveFile = null;
+		// given:  ɼ ̸. Բ    ɼ Ȯ  
+		HashSet<String> given = new HashSet<>();
+		for (int i = 0; i < args.length; i++)
+		{
+			// 𸣴 ɼ̰ų ɼ ڿ ʿ       ϰ 
+			int valueCount = optionValueCount(args[i]);
+			if (valueCount < 0)
+				usageError("unknown option " + args[i]);
+			if (i + valueCount >= args.length)
+				usageError("option " + args[i] + " needs " + valueCount + (valueCount == 1 ? " value" : " values"));
+
+			given.add(args[i]);
+
+			if (args[i].equals("-mmap"))
+				mapped = true;
+			else if (args[i].equals("-pipeline"))
+				pipelined = true;
+			else if (args[i].equals("-onepass"))
+				singlePass = true;
+			else if (args[i].equals("-noparsecache"))
+			{
+				parseCache = false;
+				workerOptions.add(args[i]);
+			}
+			else if (args[i].equals("-stats"))
+				stats = true;
+			else if (args[i].equals("-compact"))
+			{
+				compact = true;
+				workerOptions.add(args[i]);
+			}
+			else if (args[i].equals("-binsym"))
+				binarySymtab = true;
+			else if (args[i].equals("-gzip"))
+				compressOutput = true;
+			else if (args[i].equals("-relax"))
+			{
+				relax = true;
+				workerOptions.add(args[i]);
+			}
+			else if (args[i].equals("-optimize"))
+			{
+				optimize = true;
+				workerOptions.add(args[i]);
+			}
+			else if (args[i].equals("-shards"))
+				shardWorkers = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-worker"))
+			{
+				//  ȣ   worker   ϹǷ ⼭  Ȯ
+				parseOptionValue(args[i], args[i + 4], 10);
+				parseOptionValue(args[i], args[i + 5], 10);
+				workerArgs = new String[] { args[i + 1], args[i + 2], args[i + 3], args[i + 4], args[i + 5] };
+				i += 5;
+			}
+			else if (args[i].equals("-srcmap"))
+			{
+				sourceMap = true;
+				workerOptions.add(args[i]);
+			}
+			else if (args[i].equals("-where"))
+			{
+				parseOptionValue(args[i], args[i + 3], 16);
+				whereArgs = new String[] { args[i + 1], args[i + 2], args[i + 3] };
+				i += 3;
+			}
+			else if (args[i].equals("-lazy"))
+			{
+				parseOptionValue(args[i], args[i + 2], 16);
+				parseOptionValue(args[i], args[i + 3], 16);
+				lazyArgs = new String[] { args[i + 1], args[i + 2], args[i + 3] };
+				i += 3;
+			}
+			else if (args[i].equals("-lex"))
+				lexThreads = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-stream"))
+				streamCapacity = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-budget"))
+				budget = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-bench"))
+				benchRuns = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-warmup"))
+				warmupRuns = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-corpus"))
+				corpusFile = args[++i];
+			else if (args[i].equals("-data"))
+				dataCorpus = true;
+			else if (args[i].equals("-pool"))
+				pooled = true;
+			else if (args[i].equals("-startup"))
+				startupRuns = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-incremental"))
+				incrementalEdits = parseOptionValue(args[i], args[++i], 10);
+			else if (args[i].equals("-cds"))
+				archiveFile = args[++i];
+			else if (args[i].equals("-generate"))
+			{
+				corpusSections = parseOptionValue(args[i], args[++i], 10);
+				corpusLines = parseOptionValue("-generate", args[++i], 10);
+			}
+			else if (args[i].equals("-disasm"))
+			{
+				disasmInput = args[++i];
+				disasmOutput = args[++i];
+			}
+			else if (args[i].equals("-labels"))
+				labelFile = args[++i];
+		}
+
+		// Բ    ɼǵ      ʰ  
+		for (String[] conflict : CONFLICTING_OPTIONS)
+		{
+			if (!given.contains(conflict[0]))
+				continue;
+
+			for (int k = 1; k < conflict.length; k++)
+			{
+				if (given.contains(conflict[k]))
+				{
+					System.err.println("option " + conflict[0] + " cannot be combined with " + conflict[k]);
+					System.exit(2);
+				}
+			}
+		}
+
+		// inputFile: Է . input.txt   input.txt.gz ִٸ   
+		// objectFile, symtabFile: Ʈ α׷ symbol table  
+		String inputFile = "input.txt";
+		if (!new File(inputFile).exists() && new File(inputFile + CompressedFiles.SUFFIX).exists())
+			inputFile += CompressedFiles.SUFFIX;
+		String objectFile = "output_20160286", symtabFile = "symtab_20160286";
+		if (compressOutput)
+		{
+			objectFile += CompressedFiles.SUFFIX;
+			symtabFile += CompressedFiles.SUFFIX;
+		}
+
+		// ּ ˻    ʰ source map Ͽ ּҸ  ҽ ڵ  ȣ ã 
+		if (whereArgs != null)
+		{
+			findSourceLine(whereArgs[0], whereArgs[1], Integer.parseInt(whereArgs[2], 16));
+			return;
+		}
+
+		//     ʰ Ʈ α׷ о  
+		if (disasmInput != null)
+		{
+			disassemble(disasmInput, disasmOutput, labelFile, stats);
+			return;
+		}
+
+		//  ϴ  worker μ  ̾ ٿ ϰ 
+		if (shardWorkers > 0)
+		{
+			try
+			{
+				ShardCoordinator coordinator = new ShardCoordinator(inputFile, shardWorkers, workerOptions);
+				coordinator.run(objectFile, symtabFile, sourceMap ? "srcmap_20160286" : null);
+				if (stats)
+					coordinator.printStats();
+			}
+			catch (IOException e)
+			{
+				System.err.println(e);
+				System.exit(1);
+			}
+			return;
+		}
+
+		//  ð     μ Ͽ  ϰ 
+		if (startupRuns > 0)
+		{
+			try
+			{
+				AssemblerBenchmark.runStartup(corpusFile, archiveFile, startupRuns);
+			}
+			catch (IOException e)
+			{
+				System.err.println(e);
+				System.exit(1);
+			}
+			return;
+		}
+
+		//      Է ε ġ鼭  ϰ 
+		if (incrementalEdits > 0)
+		{
+			try
+			{
+				AssemblerBenchmark.runIncremental("inst.data", Files.readAllLines(new File(corpusFile).toPath()),
+						incrementalEdits);
+			}
+			catch (IOException e)
+			{
+				System.err.println(e);
+				System.exit(1);
+			}
+			return;
+		}
+
+		// ó     ϰ 
+		if (benchRuns > 0)
+		{
+			benchmark(corpusFile, corpusSections, corpusLines, dataCorpus, warmupRuns, benchRuns, compact, relax, optimize,
+					lexThreads, pooled);
+			return;
+		}
+
 		Assembler assembler = new Assembler("inst.data");
-		assembler.loadInputFile("input.txt");
+		assembler.compactTokens = compact;
+		assembler.relaxFormats = relax;
+		if (optimize)
+			assembler.optimizer = new PeepholeOptimizer();
+		// pipeline 忡 ϼ  ٷ pass2 ѱǷ ӽ   
+		// ּ  object code  쿡   ޸𸮿 ־ ϹǷ  
+		if (budget > 0 && !pipelined && !singlePass && streamCapacity == 0 && lazyArgs == null)
+		{
+			try
+			{
+				assembler.spillFile = new SectionSpillFile();
+				assembler.memoryBudget = budget * 1024L * 1024L;
+			}
+			catch (IOException e)
+			{
+				System.err.println(e);
+			}
+		}
+		assembler.parseCacheEnabled = parseCache;
+		if (sourceMap)
+			assembler.sourceMapFile = "srcmap_20160286";
+
+		//     ų ̸  ũ ٸ µ   ϰ 0 ƴ  
+		try
+		{
+			// worker    Է ϳ Ͽ  ϵ鿡 ϰ 
+			if (workerArgs != null)
+			{
+				assembler.sectionOffset = Integer.parseInt(workerArgs[3]);
+				assembler.lineOffset = Integer.parseInt(workerArgs[4]);
+				if (sourceMap)
+					assembler.sourceMapFile = workerArgs[0] + ".map";
+				assembler.loadInputFile(workerArgs[0]);
+				assembler.pass1();
+				assembler.printSymbolTable(workerArgs[2]);
+				assembler.pass2();
+				assembler.printObjectCode(workerArgs[1]);
+				return;
+			}
+
+			assembler.loadInputFile(inputFile);
+
+			//  lexing ϴ  pass1    ̸ м
+			if (lexThreads > 0)
+			{
+				long startTime = System.nanoTime();
+				assembler.lexInput(lexThreads);
+				double elapsed = (System.nanoTime() - startTime) / 1e9;
+
+				if (stats)
+					System.out.println(String.format("lexing: %d lines, %d threads, %.1f ms, %.0f lines/s",
+							assembler.lineList.size(), lexThreads, elapsed * 1e3, assembler.lineList.size() / elapsed));
+			}
+
+			// ּ  object code ʿ  pass1 ϰ  ū鸸 object code    
+			if (lazyArgs != null)
+			{
+				printLazyObjectCode(assembler, lazyArgs[0], Integer.parseInt(lazyArgs[1], 16), Integer.parseInt(lazyArgs[2], 16),
+						stats);
+				return;
+			}
+
+			// single pass   ҽ ڵ带       ڵ带 
+			if (singlePass)
+			{
+				long startTime = System.nanoTime();
+				assembler.printObjectCodeSinglePass(objectFile);
+				assembler.printSymbolTable(symtabFile);
+
+				if (stats)
+					System.out.println(String.format("single pass: %.1f ms, %d fixups, %d backpatched (%d literal)",
+							(System.nanoTime() - startTime) / 1e6,
+							assembler.symbolFixups.getRecordedCount() + assembler.literalFixups.getRecordedCount(),
+							assembler.symbolFixups.getPatchedCount() + assembler.literalFixups.getPatchedCount(),
+							assembler.literalFixups.getPatchedCount()));
+			}
+			// ڵ iterator ϴ   thread  ڵ带 д  Ͽ 
+			else if (streamCapacity > 0)
+			{
+				long startTime = System.nanoTime();
+				RecordStream records = assembler.stream(streamCapacity);
+
+				try
+				{
+					// ù ڵ带   ɸ ð
+					records.hasNext();
+					long firstRecordTime = System.nanoTime() - startTime;
+
+					RecordSink sink = new RecordSink.FileSink(objectFile);
+					records.drainTo(sink);
+					sink.close();
+					assembler.printSymbolTable(symtabFile);
+
+					if (stats)
+						System.out.println(String.format("record stream: %d records, first after %.1f ms, total %.1f ms",
+								records.getRecordCount(), firstRecordTime / 1e6, (System.nanoTime() - startTime) / 1e6));
+				}
+				finally
+				{
+					records.close();
+				}
+			}
+			// pipeline   pass1 pass2 Բ   codeList 
+			// memory-mapped  ü ũ⸦ ̸ ˾ƾ ϹǷ pipeline  Բ   
+			else if (pipelined)
+			{
+				long startTime = System.nanoTime();
+				assembler.pipelinedPass(PIPELINE_CAPACITY);
+				assembler.printSymbolTable(symtabFile);
+				assembler.printObjectCode(objectFile);
+
+				if (stats)
+					System.out.println(String.format("pipelined assembly: %.1f ms", (System.nanoTime() - startTime) / 1e6));
+			}
+			// memory-mapped   pass2  ڵ带 codeList  ٷ Ͽ 
+			else if (mapped)
+			{
+				assembler.pass1();
+				MappedRecordWriter symtabWriter = assembler.printSymbolTableMapped(symtabFile);
+				MappedRecordWriter objectWriter = assembler.printObjectCodeMapped(objectFile);
+
+				if (stats)
+				{
+					System.out.println(String.format("symbol table: %d bytes, %.1f MB/s", symtabWriter.getSize(), symtabWriter.getThroughput()));
+					System.out.println(String.format("object code: %d bytes, %.1f MB/s", objectWriter.getSize(), objectWriter.getThroughput()));
+				}
+			}
+			else
+			{
+				assembler.pass1();
+				assembler.printSymbolTable(symtabFile);
+
+				assembler.pass2();
+				assembler.printObjectCode(objectFile);
+			}
+		}
+		catch (IOException e)
+		{
+			System.err.println(e);
+			System.exit(1);
+		}
+		// ҽ ڵ     ε ϰ, Ϻθ µ Ʈ α׷  
+		catch (RuntimeException e)
+		{
+			for (Throwable cause = e; cause != null; cause = cause.getCause())
+				System.err.println(cause);
+			new File(objectFile).delete();
+			System.exit(1);
+		}
 
+		//  symbol table ϵ ϴ 
+		// single pass 忡  ̸  ū ̺  Ƿ  
+		if (binarySymtab && !singlePass)
+		{
+			try
+			{
+				assembler.printSymbolTableBinary("symtab_20160286.bin");
+			}
+			catch (IOException e)
+			{
+				System.err.println(e);
+			}
+		}
+
+		if (assembler.spillFile != null)
+		{
+			if (stats)
+				System.out.println(String.format("spill: %d sections, %d bytes",
+						assembler.spillFile.getSectionCount(), assembler.spillFile.getSize()));
+
+			assembler.spillFile.close();
+		}
+
+		if (stats && parseCache)
+			System.out.println(String.format("parse cache: %d hits, %d misses, %.1f%% of %d lines shared, %d lines cached, ~%d KB of strings and arrays saved",
+					ParseCache.getHitCount(), ParseCache.getMissCount(),
+					100.0 * ParseCache.getHitCount() / Math.max(assembler.lineList.size(), 1), assembler.lineList.size(),
+					ParseCache.getSize(), ParseCache.getSavedBytes() / 1024));
+
+		if (stats && assembler.sourceMap != null)
+			assembler.sourceMap.printStats(assembler.lineList.size());
+
+		if (stats && optimize)
+			System.out.println(String.format("peephole: %d instructions, %d bytes removed",
+					assembler.optimizer.removedInstructions, assembler.optimizer.removedBytes));
+
+		if (stats && relax)
+			System.out.println(String.format("relaxation: %d iterations, %d promoted to format 4, %.1f ms",
+					assembler.relaxIterations, assembler.relaxPromoted, assembler.relaxTime / 1e6));
+
+		if (stats)
+			System.out.println(String.format("peak heap: %d KB", getPeakHeapUsage() / 1024));
+	}
+
+	/**
+	 * ɼ ڿ    Ѵ.
+	 * 
+	 * @param option:  ɼ
+	 * @return:  . 𸣴 ɼ̶ -1
+	 */
+	static int optionValueCount(String option)
+	{
+		switch (option)
+		{
+		case "-mmap": case "-pipeline": case "-onepass": case "-noparsecache": case "-stats": case "-compact":
+		case "-binsym": case "-gzip": case "-relax": case "-optimize": case "-srcmap": case "-data": case "-pool":
+			return 0;
+		case "-shards": case "-lex": case "-stream": case "-budget": case "-bench": case "-warmup": case "-corpus":
+		case "-startup": case "-incremental": case "-cds": case "-labels":
+			return 1;
+		case "-generate": case "-disasm":
+			return 2;
+		case "-where": case "-lazy":
+			return 3;
+		case "-worker":
+			return 5;
+		default:
+			return -1;
+		}
+	}
+
+	/**
+	 * ɼ  0 ̻  д´.   ٸ  ϰ Ѵ.
+	 * 
+	 * @param option:   ɼ
+	 * @param value: ɼ 
+	 * @param radix:   (ּҴ 16)
+	 * @return:  
+	 */
+	static int parseOptionValue(String option, String value, int radix)
+	{
+		try
+		{
+			int number = Integer.parseInt(value, radix);
+			if (number >= 0)
+				return number;
+		}
+		catch (NumberFormatException e)
+		{
+			// Ʒ    Բ  ó
+		}
+
+		usageError("option " + option + " needs a " + (radix == 16 ? "hexadecimal" : "non-negative") + " number, not " + value);
+		return 0;
+	}
+
+	/**
+	 *    ϰ ɼ 浹     Ѵ.
+	 * 
+	 * @param message:  
+	 */
+	static void usageError(String message)
+	{
+		System.err.println(message);
+		System.err.println("usage: java Assembler [options]");
+		System.err.println("  assemble:  -onepass -pipeline -mmap -stream <records> -budget <MB> -shards <processes> -lex <threads>");
+		System.err.println("             -relax -optimize -compact -noparsecache -binsym -srcmap -gzip -stats");
+		System.err.println("             -lazy <section> <start> <end>");
+		System.err.println("  measure:   -bench <runs> -warmup <runs> -corpus <file> -generate <sections> <lines> -data -pool");
+		System.err.println("             -startup <runs> -cds <file> -incremental <lines>");
+		System.err.println("  inspect:   -disasm <object file> <listing file> -labels <symtab file> -where <map file> <section> <address>");
+		System.exit(2);
+	}
+
+	/**
+	 * Ʈ α׷  о ɾ  Ѵ.<br>
+	 *  memory-map   а   پ Ƿ  ũ   ޸𸮸 Ѵ.
+	 * 
+	 * @param objectFile:  Ʈ α׷ 
+	 * @param listingFile:   
+	 * @param labelFile: ̺ ǥ   symbol table . null̸ ̺ ǥ 
+	 * @param stats: ڵ , ɾ  ó  
+	 */
+	private static void disassemble(String objectFile, String listingFile, String labelFile, boolean stats)
+	{
+		try
+		{
+			long startTime = System.nanoTime();
+			ObjectProgramReader reader = new ObjectProgramReader(objectFile);
+			ObjectProgramDisassembler disassembler = new ObjectProgramDisassembler(new InstTable("inst.data"));
+			if (labelFile != null)
+				disassembler.setSymbolTables(loadSymbolTables(labelFile));
+			BufferedWriter writer = new BufferedWriter(new FileWriter(listingFile));
+
+			try
+			{
+				disassembler.disassemble(reader, writer);
+			}
+			finally
+			{
+				writer.close();
+				reader.close();
+			}
+
+			double elapsed = (System.nanoTime() - startTime) / 1e9;
+			if (stats)
+				System.out.println(String.format("disassembly: %d records, %d instructions, %d data bytes, %.1f ms, %.1f MB/s",
+						reader.getRecordCount(), disassembler.getInstructionCount(), disassembler.getDataCount(),
+						elapsed * 1e3, reader.getFileSize() / elapsed / (1024 * 1024)));
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			System.err.println(e);
+		}
+	}
+
+	/**
+	 * pass1    ּ  ģ ū鸸 object code ,  ȿ ϴ object code
+	 * ּҿ Բ Ѵ.<br>
+	 * stats true pass1 ù û ɸ ð, ̾  ū object code   ɸ ð Ͽ
+	 * Ѵ.
+	 * 
+	 * @param assembler: Է о Assembler
+	 * @param sectionName:  ̸
+	 * @param start:   ּ
+	 * @param end:   ּ ( )
+	 * @param stats: ɸ ð  
+	 */
+	private static void printLazyObjectCode(Assembler assembler, String sectionName, int start, int end, boolean stats)
+	{
+		long startTime = System.nanoTime();
 		assembler.pass1();
-		assembler.printSymbolTable("symtab_20160286");
+		long pass1Time = System.nanoTime() - startTime;
+
+		LazyObjectCode lazy = new LazyObjectCode(assembler);
+		int section = lazy.findSection(sectionName);
+		if (section < 0)
+		{
+			System.err.println("no section " + sectionName);
+			return;
+		}
+
+		// ù û    ð Ե
+		startTime = System.nanoTime();
+		lazy.encode(section, start, end);
+		long queryTime = System.nanoTime() - startTime;
+
+		for (int address = lazy.nextAddress(section, start); address >= 0 && address < end; address = lazy.nextAddress(section,
+				address + 1))
+		{
+			String code = lazy.getObjectCode(section, address);
+			if (code != null)
+				System.out.println(String.format("%s %06X %s", sectionName, address, code));
+		}
 
-		assembler.pass2();
-		assembler.printObjectCode("output_20160286");
+		if (stats)
+		{
+			// tokens:   ū 
+			long tokens = 0;
+			for (TokenTable tokenTable : assembler.TokenList)
+				tokens += tokenTable.getSize();
+			System.out.println(String.format("lazy object code: pass1 %.1f ms, first query %.3f ms, %d of %d tokens encoded",
+					pass1Time / 1e6, queryTime / 1e6, lazy.getEncodedCount(), tokens));
 
+			// pass2   ū object code   ɸ ð
+			startTime = System.nanoTime();
+			for (TokenTable tokenTable : assembler.TokenList)
+			{
+				tokenTable.programCounter = 0;
+				tokenTable.baseRegister = -1;
+				for (int j = 0; j < tokenTable.getSize(); j++)
+					tokenTable.makeObjectCode(j);
+			}
+			System.out.println(String.format("full object code: %.1f ms for %d tokens", (System.nanoTime() - startTime) / 1e6,
+					tokens));
+		}
 	}
 
 	/**
-	 * ۼ codeList ¿ ° Ѵ.<br>
+	 * source map Ͽ   ּҸ  ҽ ڵ  ȣ ã Ѵ.
 	 * 
-	 * @param fileName
-	 *            : Ǵ  ̸
+	 * @param sourceMapFile:  source map 
+	 * @param sectionName:  ̸
+	 * @param address:  κ ּ
 	 */
-	private void printObjectCode(String fileName)
+	private static void findSourceLine(String sourceMapFile, String sectionName, int address)
 	{
-		// TODO Auto-generated method stub
 		try
 		{
-			// ڷ  ̸  
-			//  Ʈ ڵ   BufferedWriter 
-			File file = new File(fileName);
-			BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(file));
-			if (file.isFile() && file.canWrite())
+			SourceMap map = new SourceMap(sourceMapFile);
+			int section = map.findSection(sectionName);
+			if (section < 0)
 			{
-				// ڵ Ʈ ִ ڵ  ŭ  
-				for (int i = 0; i < codeList.size(); i++)
+				System.err.println("no section " + sectionName + " in " + sourceMapFile);
+				return;
+			}
+
+			int line = map.lookup(section, address);
+			if (line < 0)
+				System.out.println(String.format("%s %06X: no source line", sectionName, address));
+			else
+				System.out.println(String.format("%s %06X: line %d", sectionName, address, line));
+		}
+		catch (IOException e)
+		{
+			System.err.println(e);
+		}
+	}
+
+	/**
+	 * printSymbolTable µ symbol table  д´. ǵ  ٷ еǾ ִ.
+	 * 
+	 * @param fileName:  symbol table 
+	 * @return:   symbol table
+	 * @throws IOException:     
+	 */
+	private static ArrayList<SymbolTable> loadSymbolTables(String fileName) throws IOException
+	{
+		// symTab: а ִ  symbol table
+		ArrayList<SymbolTable> tables = new ArrayList<>();
+		SymbolTable symTab = new SymbolTable();
+		BufferedReader bufReader = CompressedFiles.openReader(fileName);
+		String line;
+
+		try
+		{
+			while ((line = bufReader.readLine()) != null)
+			{
+				//  ̸  
+				if (line.isEmpty())
 				{
-					bufferedWriter.write(codeList.get(i));
-					bufferedWriter.newLine();
-					
-					//  end recordν ù° ڰ 'E'
-					//  α׷  
-					if(codeList.get(i).charAt(0) == 'E')
-					{
-						bufferedWriter.newLine();
-					}
+					tables.add(symTab);
+					symTab = new SymbolTable();
+					continue;
+				}
+
+				String[] field = line.split("\t");
+				symTab.putSymbol(field[0], Integer.parseInt(field[1], 16));
+			}
+		}
+		finally
+		{
+			bufReader.close();
+		}
+
+		if (symTab.getSize() > 0)
+			tables.add(symTab);
+
+		return tables;
+	}
+
+	/**
+	 * Է  б    ü   ݺ Ͽ ó Ѵ.<br>
+	 * ึ  Assembler ,      ʵ ӽ Ͽ .
+	 * 
+	 * @param corpusFile:   Է . sections 0 ũ õ
+	 * @param sections:  Է   . 0̸ corpusFile 
+	 * @param linesPerSection:  Է Ǻ  
+	 * @param dataCorpus:  Է BYTE, WORD  ̺ ַ  
+	 * @param warmup:    Ƚ
+	 * @param runs:  Ƚ
+	 * @param compact: ū    
+	 * @param relax: ɾ  ڵ  
+	 * @param optimize: peephole ȭ  
+	 * @param lexThreads:  lexing thread . 0̸ pass1 м
+	 * @param pooled:  Assembler pool  Assembler δ Ҵ緮  
+	 */
+	private static void benchmark(String corpusFile, int sections, int linesPerSection, boolean dataCorpus, int warmup,
+			int runs, boolean compact, boolean relax, boolean optimize, int lexThreads, boolean pooled)
+	{
+		try
+		{
+			//  Է   ӽ Ͽ 
+			if (sections > 0)
+			{
+				File generated = File.createTempFile("corpus", ".txt");
+				generated.deleteOnExit();
+				corpusFile = generated.getPath();
+				if (dataCorpus)
+					AssemblerBenchmark.generateDataCorpus(corpusFile, sections, linesPerSection);
+				else
+					AssemblerBenchmark.generateCorpus(corpusFile, sections, linesPerSection);
+			}
+
+			File symtabFile = File.createTempFile("symtab", ".txt");
+			File outputFile = File.createTempFile("output", ".txt");
+			symtabFile.deleteOnExit();
+			outputFile.deleteOnExit();
+
+			String input = corpusFile;
+			AssemblerBenchmark bench = new AssemblerBenchmark(corpusFile);
+			List<String> constants = bench.scanData(new InstTable("inst.data"));
+			bench.run(() -> {
+				Assembler assembler = new Assembler("inst.data");
+				assembler.compactTokens = compact;
+				assembler.relaxFormats = relax;
+				if (optimize)
+					assembler.optimizer = new PeepholeOptimizer();
+
+				assembler.loadInputFile(input);
+				if (lexThreads > 0)
+					assembler.lexInput(lexThreads);
+				try
+				{
+					assembler.pass1();
+					assembler.printSymbolTable(symtabFile.getPath());
+					assembler.pass2();
+					assembler.printObjectCode(outputFile.getPath());
+				}
+				catch (IOException e)
+				{
+					throw new UncheckedIOException(e);
+				}
+			}, warmup, runs);
+
+			// ū object code  ܰ踸  
+			// pass1  ϳ Assembler   object code  ݺ
+			Assembler assembler = new Assembler("inst.data");
+			assembler.compactTokens = compact;
+			assembler.relaxFormats = relax;
+			assembler.loadInputFile(input);
+			assembler.pass1();
+
+			long tokens = 0;
+			for (TokenTable tokenTable : assembler.TokenList)
+				tokens += tokenTable.getSize();
+
+			AssemblerBenchmark.runPerToken("object code", tokens, () -> {
+				for (TokenTable tokenTable : assembler.TokenList)
+				{
+					tokenTable.programCounter = 0;
+					tokenTable.baseRegister = -1;
+					for (int j = 0; j < tokenTable.getSize(); j++)
+						tokenTable.makeObjectCode(j);
+				}
+			}, warmup, runs);
+
+			// BYTE  ִٸ  16 ȯ  
+			if (!constants.isEmpty())
+				AssemblerBenchmark.runDataEncoding(constants, warmup, runs);
+
+			// ޸𸮿 о Է Assembler ٽ   Ҵ緮 
+			if (pooled)
+				AssemblerBenchmark.runPooled("inst.data", Files.readAllLines(new File(input).toPath()), warmup, runs);
+
+			// ּҷ ɺ ã   ϴ  symbol table 캸 츦 
+			ArrayList<SymbolTable> tables = new ArrayList<>();
+			for (int i = 0; i < assembler.symtabList.size(); i++)
+				tables.add(assembler.getSymbolTable(i));
+			AssemblerBenchmark.runAddressLookup(tables, ADDRESS_LOOKUP_QUERIES);
+
+			// ؽƮ symtab ϰ  symtab Ͽ ɺ ã ð 
+			File binaryFile = File.createTempFile("symtab", ".bin");
+			binaryFile.deleteOnExit();
+			assembler.printSymbolTable(symtabFile.getPath());
+			assembler.printSymbolTableBinary(binaryFile.getPath());
+			AssemblerBenchmark.runSymbolLookup(symtabFile.getPath(), binaryFile.getPath());
+
+			symtabFile.delete();
+			outputFile.delete();
+			binaryFile.delete();
+		}
+		catch (IOException e)
+		{
+			System.err.println(e);
+		}
+	}
+
+	/**
+	 * ̹ о ҽ ڵ ε Է ߰Ѵ.  ̺귯   loadInputFile  Ѵ.
+	 * 
+	 * @param lines: ҽ ڵ ε
+	 */
+	public void loadInput(List<String> lines)
+	{
+		// addAll  迭  Ƿ ϳ ߰
+		lineList.ensureCapacity(lineList.size() + lines.size());
+		for (String line : lines)
+			lineList.add(line);
+	}
+
+	/**
+	 *  ü ٸ Է ٽ   ֵ Է, Ǻ ̺, ڵ  ߿ ٲ   .<br>
+	 * Ʈ 뷮  ä , Ǻ ̺ Token ü  ʰ Ͽٰ   
+	 * ٽ ϹǷ  ũ Է ݺϿ    Ҵϴ  پ. <br>
+	 * compactTokens, parseCacheEnabled, relaxFormats, optimizer   Ѵ.  Űܵδ ӽ  Ƿ heap ѵ
+	 * Ϸ ٽ ؾ Ѵ.  ߿ ȣ  .
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < TokenList.size(); i++)
+			if (TokenList.get(i) != null)
+				spareTokenTables.add(TokenList.get(i));
+		keepSpares(symtabList);
+		keepSpares(literalList);
+		keepSpares(externalList);
+		keepSpares(modifList);
+
+		lineList.clear();
+		symtabList.clear();
+		literalList.clear();
+		externalList.clear();
+		modifList.clear();
+		TokenList.clear();
+		codeList.clear();
+
+		lexedTokens = null;
+		objectWriter = null;
+		recordSink = null;
+		sectionOffset = 0;
+		lineOffset = 0;
+		sourceMap = null;
+		locCounter = 0;
+		programNumber = 0;
+		relaxIterations = 0;
+		relaxPromoted = 0;
+		relaxTime = 0;
+		symbolFixups = null;
+		literalFixups = null;
+		if (spillFile != null)
+		{
+			spillFile.close();
+			spillFile = null;
+		}
+	}
+
+	/**
+	 * ̺ Ʈ ̺ ٽ ϵ Ѵ.
+	 */
+	private void keepSpares(ArrayList<SymbolTable> tables)
+	{
+		for (int i = 0; i < tables.size(); i++)
+			if (tables.get(i) != null)
+				spareSymbolTables.add(tables.get(i));
+	}
+
+	/**
+	 * ǿ   symbol table Ѵ. reset  table ִٸ  ٽ Ѵ.
+	 */
+	private SymbolTable newSymbolTable()
+	{
+		if (spareSymbolTables.isEmpty())
+			return new SymbolTable();
+
+		SymbolTable table = spareSymbolTables.remove(spareSymbolTables.size() - 1);
+		table.clear();
+		return table;
+	}
+
+	/**
+	 * ǿ   ū ̺ Ѵ. reset  table ִٸ  ٽ Ѵ.
+	 * 
+	 * @param symTab:  symbol table
+	 * @param litTab:  literal table
+	 * @param extTab:  external (reference) table
+	 */
+	private TokenTable newTokenTable(SymbolTable symTab, SymbolTable litTab, SymbolTable extTab)
+	{
+		TokenTable table;
+		if (spareTokenTables.isEmpty())
+			table = new TokenTable(symTab, litTab, extTab, instTable);
+		else
+		{
+			table = spareTokenTables.remove(spareTokenTables.size() - 1);
+			table.reset(symTab, litTab, extTab);
+		}
+
+		//  м   Assembler  
+		table.keepComments = !compactTokens;
+		table.useParseCache = parseCacheEnabled;
+		return table;
+	}
+
+	/**
+	 * о ҽ ڵ带 Ͽ  ڵ ʷ sink Ѱش.  ̺귯  
+	 * ̴.<br>
+	 * pipeline  pass1 pass2 Բ ϸ, pass2  ڵ codeList  ʰ ٷ ѰֹǷ  
+	 * ڵ带 óϴ    ȴ. sink   ݴ´.
+	 * 
+	 * @param sink: ڵ带  
+	 * @throws IOException: sink    
+	 */
+	public void assemble(RecordSink sink) throws IOException
+	{
+		assemble(sink, true);
+	}
+
+	/**
+	 * о ҽ ڵ带 Ͽ  ڵ ʷ sink Ѱش.<br>
+	 * pipelined false pass1 pass2 ȣ thread ʷ ϹǷ thread   ʴ´.  û
+	 * ÿ óϴ ó ȣϴ ʿ ̹  thread ϴ 쿡 Ѵ. sink   ݴ´.
+	 * 
+	 * @param sink: ڵ带  
+	 * @param pipelined: pass2  thread pass1 Բ  
+	 * @throws IOException: sink    
+	 */
+	public void assemble(RecordSink sink, boolean pipelined) throws IOException
+	{
+		recordSink = sink;
+
+		try
+		{
+			if (pipelined)
+				pipelinedPass(PIPELINE_CAPACITY);
+			else
+			{
+				pass1();
+				pass2();
+			}
+		}
+		catch (UncheckedIOException e)
+		{
+			// pass2 sink     ܸ 
+			throw e.getCause();
+		}
+		catch (IllegalStateException e)
+		{
+			// pass2 worker sink     ܸ 
+			if (e.getCause() instanceof UncheckedIOException)
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			throw e;
+		}
+		finally
+		{
+			recordSink = null;
+			sink.close();
+		}
+	}
+
+	/**
+	 *  thread  ϰ,  ڵ ʷ   ִ iterator Ѵ.<br>
+	 *   ڵ尡 capacity ̸    ٸ.
+	 * 
+	 * @param capacity:   ä   ִ ڵ ִ 
+	 * @return: ڵ iterator.  б  ׸η close ȣؾ Ѵ
+	 */
+	public RecordStream stream(int capacity)
+	{
+		return new RecordStream(this, capacity);
+	}
+
+	/**
+	 * ۼ codeList ¿ ° Ѵ.<br>
+	 * 
+	 * @param fileName
+	 *            : Ǵ  ̸
+	 * @throws IOException
+	 *             :     
+	 */
+	private void printObjectCode(String fileName) throws IOException
+	{
+		// TODO Auto-generated method stub
+		// ڷ  ̸  
+		//  Ʈ ڵ   BufferedWriter 
+		//  ̸ ".gz"  Ͽ 
+		File file = new File(fileName);
+		BufferedWriter bufferedWriter = CompressedFiles.openWriter(fileName);
+		try
+		{
+			if (file.isFile() && file.canWrite())
+			{
+				// ڵ Ʈ ִ ڵ  ŭ  
+				for (int i = 0; i < codeList.size(); i++)
+				{
+					bufferedWriter.write(codeList.get(i));
+					bufferedWriter.newLine();
+					
+					//  end recordν ù° ڰ 'E'
+					//  α׷  
+					if(codeList.get(i).charAt(0) == 'E')
+					{
+						bufferedWriter.newLine();
+					}
+				}
+			}
+		}
+		finally
+		{
+			bufferedWriter.close();
+		}
+	}
+
+	/**
+	 * µ Ʈ α׷ Ȯ ũ⸦ Ͽ  ũ⸸ŭ memory-mapped  Ҵ ,<br>
+	 * pass2 ϸ鼭  ڵ带 codeList  ʰ ٷ Ͽ .<br>
+	 * pass1 Ŀ pass2  ȣѴ.
+	 * 
+	 * @param fileName
+	 *            : Ǵ  ̸
+	 * @return: ¿  writer ( ũ ó Ȯο)
+	 * @throws IOException
+	 *             :     
+	 */
+	private MappedRecordWriter printObjectCodeMapped(String fileName) throws IOException
+	{
+		// completed: pass2  ڵ带 Ͽ . ƴ϶ ߸   ʵ 
+		MappedRecordWriter writer = new MappedRecordWriter(fileName, measureObjectCode());
+		boolean completed = false;
+		objectWriter = writer;
+
+		try
+		{
+			pass2();
+			completed = true;
+		}
+		catch (UncheckedIOException e)
+		{
+			throw e.getCause();
+		}
+		finally
+		{
+			objectWriter = null;
+			if (completed)
+				writer.close();
+			else
+				writer.abort();
+		}
+
+		return writer;
+	}
+
+	/**
+	 * ۼ SymbolTable printSymbolTable  ·, ̸  ũ memory-mapped Ͽ Ѵ.<br>
+	 * 
+	 * @param fileName
+	 *            : Ǵ  ̸
+	 * @return: ¿  writer ( ũ ó Ȯο)
+	 * @throws IOException
+	 *             :     
+	 */
+	private MappedRecordWriter printSymbolTableMapped(String fileName) throws IOException
+	{
+		// size: µ  ũ
+		long size = 0;
+		int separator = MappedRecordWriter.LINE_SEPARATOR.length();
+
+		// <Symbol>	<location>  پ Ǹ   ϳ ũ⸦ 
+		for (int i = 0; i < symtabList.size(); i++)
+		{
+			SymbolTable symTab = getSymbolTable(i);
+			for (int j = 0; j < symTab.getSize(); j++)
+				size += symTab.getSymbol(j).length() + 1
+						+ Integer.toHexString(symTab.getLocation(j)).length() + separator;
+
+			size += separator;
+		}
+
+		MappedRecordWriter writer = new MappedRecordWriter(fileName, size);
+		try
+		{
+			for (int i = 0; i < symtabList.size(); i++)
+			{
+				SymbolTable symTab = getSymbolTable(i);
+				for (int j = 0; j < symTab.getSize(); j++)
+				{
+					writer.writeLine(symTab.getSymbol(j) + "\t"
+							+ Integer.toHexString(symTab.getLocation(j)).toUpperCase());
+				}
+
+				writer.newLine();
+			}
+		}
+		catch (IOException e)
+		{
+			writer.abort();
+			throw e;
+		}
+		writer.close();
+
+		return writer;
+	}
+
+	/**
+	 * ۼ SymbolTable section ؽ  Ե   Ѵ.<br>
+	 * µ  SymbolTableFile  Ľ  ɺ ̸ ˻  ִ.
+	 * 
+	 * @param fileName
+	 *            : Ǵ  ̸
+	 * @throws IOException
+	 *             :     
+	 */
+	private void printSymbolTableBinary(String fileName) throws IOException
+	{
+		// section ̸  ū ̺ ù° ū(START, CSECT) ̺
+		// ӽ Ϸ Ű  Ͽ ϵ ̸ ɺ ̺ 
+		ArrayList<String> names = new ArrayList<>();
+		ArrayList<SymbolTable> tables = new ArrayList<>();
+		for (int i = 0; i < TokenList.size(); i++)
+		{
+			if (TokenList.get(i) == null)
+				names.add(spillFile.getSectionName(i));
+			else
+				names.add(TokenList.get(i).getToken(0).label);
+			tables.add(getSymbolTable(i));
+		}
+
+		SymbolTableFile.write(fileName, names, tables);
+	}
+
+	/**
+	 * pass2  ڵ   Ѵ.<br>
+	 * memory-mapped  ̶ Ͽ ٷ , recordSink Ǿ ִٸ Ѱְ, ƴ϶ codeList ߰Ѵ.
+	 * 
+	 * @param codeLine:  ڵ
+	 */
+	private void emitRecord(String codeLine)
+	{
+		if (objectWriter == null && recordSink == null)
+		{
+			codeList.add(codeLine);
+			return;
+		}
+
+		try
+		{
+			if (recordSink != null)
+			{
+				recordSink.accept(codeLine);
+				return;
+			}
+
+			objectWriter.writeLine(codeLine);
+
+			// end record ڿ printObjectCode    ߰
+			if (codeLine.charAt(0) == 'E')
+				objectWriter.newLine();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * pass1  pass2  Ʈ α׷ Ȯ Ʈ ũ⸦ Ѵ.<br>
+	 *  ڵ ̴ ū ̺ ũ⸸ Ƿ Ʈ ڵ带  ʰ   ִ.
+	 * 
+	 * @return: Ʈ α׷  ũ
+	 */
+	private long measureObjectCode()
+	{
+		// size:  ũ
+		// separator: ٹٲ  ũ
+		// tokenTable: ũ⸦   ū ̺
+		// currentToken: ũ⸦  ū
+		long size = 0;
+		int separator = MappedRecordWriter.LINE_SEPARATOR.length();
+		TokenTable tokenTable;
+		Token currentToken;
+
+		for (int i = 0; i < TokenList.size(); i++)
+		{
+			restoreSection(i);
+			tokenTable = TokenList.get(i);
+			SymbolTable symTab = symtabList.get(i);
+			SymbolTable litTab = literalList.get(i);
+
+			for (int j = 0; j < tokenTable.getSize(); j++)
+			{
+				currentToken = tokenTable.getToken(j);
+
+				if (currentToken.label.equals("."))
+				{
+					continue;
+				}
+				// Header record, Define record: pass2    ̸ 
+				// ּҰ 6ڸ Ѱų ǵ  ɺ(-1)̶ 8ڸ µǴ 쵵  ̰ 
+				else if (currentToken.operator.equals("START") || currentToken.operator.equals("CSECT"))
+				{
+					size += makeHeaderRecord(currentToken, tokenTable, litTab).length();
+				}
+				else if (currentToken.operator.equals("EXTDEF"))
+				{
+					size += makeDefineRecord(currentToken, symTab).length();
+				}
+				// Refer record: R + ɺ
+				else if (currentToken.operator.equals("EXTREF"))
+				{
+					size += 1;
+					for (int k = 0; k < currentToken.operand.length; k++)
+						size += currentToken.operand[k].length();
+				}
+				// Text record: T +  ּ(6) + (2) + Ʈ  2
+				else if (isTextToken(currentToken))
+				{
+					long[] records = writeTextRecords(tokenTable, j, false);
+					size += records[1] + records[2] * separator;
+					j = (int) Math.max(records[0], j + 1) - 1;
+					continue;
+				}
+				// ͷ Text record
+				else if (currentToken.operator.equals("LTORG") || currentToken.operator.equals("END"))
+				{
+					long[] records = writeLiteralRecords(currentToken.location, litTab, false);
+					size += records[0] + records[1] * separator;
+					continue;
+				}
+				else
+					continue;
+
+				size += separator;
+			}
+
+			// Modification record: M + ּ(6ڸ ̻) + ũ(2ڸ ̻) + ɺ
+			SymbolTable modifTab = modifList.get(i);
+			for (int j = 0; j < modifTab.getSize(); j++)
+				size += 1 + TokenTable.hexLength(modifTab.getLocation(j), 6)
+						+ TokenTable.hexLength(modifTab.getModifSize(j), 2) + modifTab.getSymbol(j).length() + separator;
+
+			// End record   
+			size += makeEndRecord(i, tokenTable).length() + separator * 2;
+			releaseSection(i);
+		}
+
+		return size;
+	}
+
+	/**
+	 * start ġ ū ӵ object code Text record  ϰų,  ũ⸸ Ѵ.<br>
+	 * ũⰡ 0 ū, RESW, RESB  .  record 30Ʈ ,  ڸ  ʴ
+	 * ū  record Ѵ. ٸ 30Ʈ ū BYTE, WORD ʹ  ص  ϹǷ
+	 *  ڸ ä  ̾ record鿡 30Ʈ  ´.
+	 * 
+	 * @param tokenTable: ū ִ  ū ̺
+	 * @param start: ù° Text record ù° ū ε
+	 * @param emit: true record ϰ, false  ʰ ũ⸸ 
+	 * @return: { Text record  ʴ ù° ū ε, record   (ٹٲ ), record  }
+	 */
+	private long[] writeTextRecords(TokenTable tokenTable, int start, boolean emit)
+	{
+		// result:  
+		// record: ۼ  record object code
+		// recordAddress: ۼ  record  ּ
+		// recordSize: ۼ  record Ʈ 
+		long[] result = new long[3];
+		StringBuilder record = textBuffer;
+		int recordAddress = 0, recordSize = 0;
+		int tokenIndex = start;
+		record.setLength(0);
+
+		for (; tokenIndex < tokenTable.getSize(); tokenIndex++)
+		{
+			Token token = tokenTable.viewToken(tokenIndex);
+			if (token.byteSize == 0 || token.operator.equals("RESW") || token.operator.equals("RESB"))
+				break;
+
+			// 30Ʈ  ū  
+			if (token.byteSize <= 30)
+			{
+				if (recordSize + token.byteSize > 30)
+				{
+					flushTextRecord(recordAddress, recordSize, record, emit, result);
+					recordSize = 0;
+				}
+				if (recordSize == 0)
+					recordAddress = token.location;
+				if (emit)
+					record.append(token.objectCode);
+				recordSize += token.byteSize;
+				continue;
+			}
+
+			// ū ʹ record  ڸŭ  
+			// offset:  Ʈ 
+			for (int offset = 0, part; offset < token.byteSize; offset += part)
+			{
+				if (recordSize == 30)
+				{
+					flushTextRecord(recordAddress, recordSize, record, emit, result);
+					recordSize = 0;
+				}
+				if (recordSize == 0)
+					recordAddress = token.location + offset;
+
+				part = Math.min(30 - recordSize, token.byteSize - offset);
+				if (emit)
+					record.append(token.objectCode, offset * 2, (offset + part) * 2);
+				recordSize += part;
+			}
+		}
+
+		if (recordSize > 0)
+			flushTextRecord(recordAddress, recordSize, record, emit, result);
+
+		result[0] = tokenIndex;
+		return result;
+	}
+
+	/**
+	 * ū Text record object code  ū(ɾ, BYTE, WORD) ȮѴ. 4 ɾ '+' ǥô Ѵ.
+	 */
+	private boolean isTextToken(Token token)
+	{
+		String operator = token.operator.startsWith("+") ? token.operator.substring(1) : token.operator;
+		return instTable.isInstruction(operator) || operator.equals("BYTE") || operator.equals("WORD");
+	}
+
+	/**
+	 * LTORG, END ġ Ƶ ͷ ͸ Text record  ϰų,  ũ⸸ Ѵ.<br>
+	 * ͷ ͸ ̾ ٿ 30Ʈ  , ͷ   record ϳ Ѵ.
+	 * 
+	 * @param location: ù° ͷ ּ
+	 * @param litTab:  ͷ ̺
+	 * @param emit: true record ϰ, false  ʰ ũ⸸ 
+	 * @return: { record   (ٹٲ ), record  }
+	 */
+	private long[] writeLiteralRecords(int location, SymbolTable litTab, boolean emit)
+	{
+		// result: flushTextRecord ä . ù°   
+		// data: ͷ object code ̾  ڿ
+		// totalSize: ͷ Ʈ ũ 
+		long[] result = new long[3];
+		StringBuilder data = new StringBuilder();
+		int totalSize = 0;
+		textBuffer.setLength(0);
+
+		for (int k = 0; k < litTab.getSize(); k++)
+		{
+			totalSize += litTab.getLiteralSize(k);
+			if (emit)
+				data.append(TokenTable.encodeConstant(litTab.getSymbol(k)));
+		}
+
+		StringBuilder record = textBuffer;
+		int offset = 0;
+		do
+		{
+			// part: ̹ record  Ʈ 
+			int part = Math.min(30, totalSize - offset);
+			if (emit)
+				record.append(data, offset * 2, (offset + part) * 2);
+			flushTextRecord(location + offset, part, record, emit, result);
+			offset += part;
+		}
+		while (offset < totalSize);
+
+		return new long[] { result[1], result[2] };
+	}
+
+	/**
+	 * Ƶ object code Text record ϳ ϰ .    record  result Ѵ.
+	 * 
+	 * @param address: record  ּ
+	 * @param size: record Ʈ 
+	 * @param record: record  object code
+	 * @param emit: false  ʰ ũ⸸ 
+	 * @param result: {  ,   , record  }
+	 */
+	private void flushTextRecord(int address, int size, StringBuilder record, boolean emit, long[] result)
+	{
+		if (emit)
+		{
+			recordBuffer.setLength(0);
+			recordBuffer.append('T');
+			TokenTable.appendHex(recordBuffer, address, 6);
+			TokenTable.appendHex(recordBuffer, size, 2);
+			emitRecord(recordBuffer.append(record).toString());
+		}
+
+		result[1] += 1 + TokenTable.hexLength(address, 6) + TokenTable.hexLength(size, 2) + size * 2;
+		result[2]++;
+		record.setLength(0);
+	}
+
+	/**
+	 * ּҸ String.format("%06X")   6ڸ ̻ 빮 16 ȯѴ.<br>
+	 * ڵ ϳ   Formatter Խ class ҷ ʵ Ѵ.  8ڸ 2  ȯѴ.
+	 * 
+	 * @param value: ȯ ּ
+	 * @return: 16 ڿ
+	 */
+	static String toAddressHex(int value)
+	{
+		return value < 0 ? Integer.toHexString(value).toUpperCase() : TokenTable.toHex(value, 6);
+	}
+
+	/**
+	 *   heap ޸  ִ 뷮  Ѵ.
+	 * 
+	 * @return: ִ heap 뷮 (byte)
+	 */
+	static long getPeakHeapUsage()
+	{
+		long peak = 0;
+
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+		{
+			if (pool.getType() == MemoryType.HEAP)
+				peak += pool.getPeakUsage().getUsed();
+		}
+
+		return peak;
+	}
+
+	/**
+	 * ۼ SymbolTable ¿ ° Ѵ.<br>
+	 * 
+	 * @param fileName
+	 *            : Ǵ  ̸
+	 * @throws IOException
+	 *             :     
+	 */
+	private void printSymbolTable(String fileName) throws IOException
+	{
+		// TODO Auto-generated method stub
+		// ڷ  ̸  
+		// ɺ ̺   BufferedWriter 
+		//  ̸ ".gz"  Ͽ 
+		File file = new File(fileName);
+		BufferedWriter bufferedWriter = CompressedFiles.openWriter(fileName);
+		// output:  ɺ   ڿ
+		String output;
+
+		try
+		{
+			if (file.isFile() && file.canWrite())
+			{
+				for (int i = 0; i < symtabList.size(); i++)
+				{
+					// symTab:   ɺ ̺
+					SymbolTable symTab = getSymbolTable(i);
+
+					for (int j = 0; j < symTab.getSize(); j++)
+					{
+						// output = <Symbol>	<location> · 
+						// location  16  빮ڷ 
+						output = symTab.getSymbol(j) + "\t"
+								+ Integer.toHexString(symTab.getLocation(j)).toUpperCase();
+
+						bufferedWriter.write(output);
+						bufferedWriter.newLine();
+					}
+
+					bufferedWriter.newLine();
+				}
+			}
+		}
+		finally
+		{
+			bufferedWriter.close();
+		}
+	}
+
+	/**
+	 * pass1  Ѵ.<br>
+	 * 1) α׷ ҽ ĵϿ ū и  ū̺ <br>
+	 * 2) label symbolTable <br>
+	 * <br>
+	 * <br>
+	 * ǻ : SymbolTable TokenTable α׷ section ϳ Ǿ Ѵ.
+	 */
+	void pass1()
+	{
+		// TODO Auto-generated method stub
+		// tokenIndex: Ǻ ū ̺  ֱ  ū ε
+		// line: ش ū Ľ ҽ ڵ 
+		// currentToken: ֱ  ū
+		int tokenIndex = 0;
+		String line;
+		Token currentToken;
+
+		//  ü      Ƿ ʱȭ
+		locCounter = 0;
+		programNumber = 0;
+		openSourceMap();
+
+		// input  о ҽڵ  ŭ ݺ
+		for (int i = 0; i < lineList.size(); i++)
+		{
+			// lineListκ ū Ľ  
+			line = lineList.get(i);
+
+			// ο "START" ڿ Ե 
+			if (line.contains("START"))
+			{
+				//  ҽڵ ּҰ ϴ locCounter ʱȭ
+				// Ǻ ū ̺  ֱ  ū ε ʱȭ
+				// ʿ ̺ ü Ͽ  List ־
+				locCounter = 0;
+				tokenIndex = 0;
+				symtabList.add(newSymbolTable());
+				literalList.add(newSymbolTable());
+				externalList.add(newSymbolTable());
+				modifList.add(newSymbolTable());
+				TokenList.add(newTokenTable(symtabList.get(programNumber), literalList.get(programNumber), externalList.get(programNumber)));
+			}
+			else if (lineList.get(i).contains("CSECT"))
+			{
+				//    programNumber  
+				//  ҽڵ ּҰ ϴ locCounter ʱȭ
+				// Ǻ ū ̺  ֱ  ū ε ʱȭ
+				// ʿ ̺ ü Ͽ  List ־
+				//   ϼǾǷ ϰ pipeline  pass2 worker Ѱ
+				//  Էó CSECT ϴ 쿡   
+				if (!TokenList.isEmpty())
+				{
+					finishSection(programNumber);
+					// pipeline 忡  Ѱִٰ ߴܵ     
+					if (Thread.currentThread().isInterrupted())
+					{
+						closeSourceMap();
+						return;
+					}
+					programNumber++;
+				}
+				locCounter = 0;
+				tokenIndex = 0;
+				symtabList.add(newSymbolTable());
+				literalList.add(newSymbolTable());
+				externalList.add(newSymbolTable());
+				modifList.add(newSymbolTable());
+				TokenList.add(newTokenTable(symtabList.get(programNumber), literalList.get(programNumber), externalList.get(programNumber)));
+			}
+			
+			// ش ҽ ڵ  token ߰
+			// ̸ ķ м  token ִٸ ״ 
+			// Ѱ token 迭  section compact  Բ   ְ 
+			if (lexedTokens != null)
+			{
+				TokenList.get(programNumber).addToken(lexedTokens[i]);
+				lexedTokens[i] = null;
+			}
+			else
+				TokenList.get(programNumber).putToken(line);
+			
+			//   ū  
+			currentToken = TokenList.get(programNumber).getToken(tokenIndex);
+			currentToken.sourceLine = lineOffset + i + 1;
+
+			// ̺ ϴ  ɺ, ͷ, ,   ̺ ϰ
+			//  ū ũ⸸ŭ locCounter  
+			registerToken(currentToken);
+			//ū ε  
+			tokenIndex++;
+
+			// ڰ "INCLUDE" þ 
+			// ǿڷ   ū include cacheκ   ǿ ̾ ߰
+			if (currentToken.operator != null && currentToken.operator.equals("INCLUDE"))
+			{
+				for (Token template : IncludeCache.getTokens(currentToken.operand[0], instTable))
+				{
+					TokenList.get(programNumber).putToken(template);
+					TokenList.get(programNumber).getToken(tokenIndex).sourceLine = currentToken.sourceLine;
+					registerToken(TokenList.get(programNumber).getToken(tokenIndex));
+					tokenIndex++;
+				}
+			}
+		}
+
+		//  ǵ ϼǾǷ ϰ Ѱ
+		if (!TokenList.isEmpty())
+			finishSection(programNumber);
+
+		closeSourceMap();
+	}
+
+	/**
+	 * sourceMapFile Ǿٸ source map  .  ϼ    ϵȴ.
+	 */
+	private void openSourceMap()
+	{
+		if (sourceMapFile == null)
+			return;
+
+		try
+		{
+			sourceMap = new SourceMap.Writer(sourceMapFile);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * ϼ  ּҿ ҽ ڵ  ȣ source map Ͽ Ѵ. source map  ʴ´ٸ ƹ͵  ʴ´.
+	 * 
+	 * @param tokenTable: ּҰ Ȯ  ū ̺
+	 * @param litTab:  literal table
+	 */
+	private void addSourceMapSection(TokenTable tokenTable, SymbolTable litTab)
+	{
+		if (sourceMap == null)
+			return;
+
+		try
+		{
+			sourceMap.addSection(tokenTable, litTab);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * source map  ݴ´.   -stats   ֵ sourceMap ܵд.
+	 */
+	private void closeSourceMap()
+	{
+		if (sourceMap == null)
+			return;
+
+		try
+		{
+			sourceMap.close();
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * pass1 pass2  ʰ ҽ ڵ带    Ͽ Ʈ α׷  Ѵ.<br>
+	 * 1) θ pass1  ū  ̺鿡   ٷ object code .<br>
+	 * 2)  ǵ  ɺ ϴ ɾ ɺ fixup chain  ΰ, ɺ ǵǸ object code ٽ
+	 * .(backpatching) ͷ ּҴ LTORG END Ƿ ͷ ϴ ɾ ׶ ٽ .<br>
+	 * 3)    ڵ ٷ Ͽ   ū ̺ .  TokenList  
+	 * ,    symbol table̴.<br>
+	 * <br>
+	 *  ü ٽ 캸ƾ ϴ ȭ, relaxation, compact, ӽ    ʴ´.  ǵ 
+	 * ɺ(ܺ ɺ) pass2  ּҸ ã  · object code .
+	 * 
+	 * @param fileName: Ǵ  ̸
+	 * @throws IOException:     
+	 */
+	private void printObjectCodeSinglePass(String fileName) throws IOException
+	{
+		// tokenTable:   ū ̺
+		// tokenIndex: Ǻ ū ̺  ֱ  ū ε
+		// line: ش ū Ľ ҽ ڵ 
+		TokenTable tokenTable = null;
+		int tokenIndex = 0;
+		String line;
+
+		//  ü      Ƿ ʱȭ
+		locCounter = 0;
+		programNumber = 0;
+		symbolFixups = new FixupTable();
+		literalFixups = new FixupTable();
+		openSourceMap();
+
+		try
+		{
+			recordSink = new RecordSink.FileSink(fileName);
+
+			for (int i = 0; i < lineList.size(); i++)
+			{
+				line = lineList.get(i);
+
+				//   ۵Ǵ    ڵ带    ̺ 
+				if (line.contains("START") || line.contains("CSECT"))
+				{
+					if (tokenTable != null)
+					{
+						closeSinglePassSection(programNumber, tokenTable);
+						programNumber++;
+					}
+
+					locCounter = 0;
+					tokenIndex = 0;
+					symtabList.add(newSymbolTable());
+					literalList.add(newSymbolTable());
+					externalList.add(newSymbolTable());
+					modifList.add(newSymbolTable());
+					tokenTable = newTokenTable(symtabList.get(programNumber), literalList.get(programNumber), externalList.get(programNumber));
+				}
+
+				// ̸ ķ м  token ִٸ ״ 
+				if (lexedTokens != null)
+				{
+					tokenTable.addToken(lexedTokens[i]);
+					lexedTokens[i] = null;
+				}
+				else
+					tokenTable.putToken(line);
+
+				Token currentToken = tokenTable.getToken(tokenIndex);
+				currentToken.sourceLine = lineOffset + i + 1;
+				assembleToken(tokenTable, tokenIndex++);
+
+				// INCLUDE þ  include cache ū ̾ 
+				if (currentToken.operator != null && currentToken.operator.equals("INCLUDE"))
+				{
+					for (Token template : IncludeCache.getTokens(currentToken.operand[0], instTable))
+					{
+						tokenTable.putToken(template);
+						tokenTable.getToken(tokenIndex).sourceLine = currentToken.sourceLine;
+						assembleToken(tokenTable, tokenIndex++);
+					}
+				}
+			}
+
+			if (tokenTable != null)
+				closeSinglePassSection(programNumber, tokenTable);
+
+			recordSink.close();
+			closeSourceMap();
+		}
+		catch (UncheckedIOException e)
+		{
+			// ڵ带     ܸ 
+			throw e.getCause();
+		}
+		finally
+		{
+			recordSink = null;
+		}
+	}
+
+	/**
+	 * single pass 忡 ū ̺ ߰ ū ϳ ϰ object code .<br>
+	 * 1) pass1  ̺, ͷ, ,   ̺ ϰ ּҸ <br>
+	 * 2) ̺ ǵǾٸ  ɺ ٸ ɾ object code ٽ <br>
+	 * 3) LTORG, END ͷ ּҰ Ƿ ͷ ϴ ɾ object code ٽ <br>
+	 * 4) ū object code ,  ּҸ    ɺ̳ ͷ ߴٸ fixup 
+	 * 
+	 * @param tokenTable:   ū ̺
+	 * @param index: ū ε
+	 */
+	private void assembleToken(TokenTable tokenTable, int index)
+	{
+		Token currentToken = tokenTable.getToken(index);
+		registerToken(currentToken);
+
+		if (!currentToken.label.equals("") && !currentToken.label.equals("."))
+			symbolFixups.resolve(currentToken.label, tokenTable);
+
+		if (currentToken.operator != null && (currentToken.operator.equals("LTORG") || currentToken.operator.equals("END")))
+			literalFixups.resolveAll(tokenTable);
+
+		// programCounter, baseRegister: object code   PC, base register 
+		int programCounter = tokenTable.programCounter, baseRegister = tokenTable.baseRegister;
+		tokenTable.makeObjectCode(index);
+
+		// WORD Ҹ Ŀ  ɺ  
+		if ("WORD".equals(currentToken.operator))
+		{
+			addWordFixups(tokenTable, currentToken, index, programCounter, baseRegister);
+			return;
+		}
+
+		// reference: object code   ּҸ ã ɺ Ǵ ͷ
+		Operand reference = tokenTable.lastReference;
+		if (reference == null)
+			return;
+
+		if (reference.mode == Operand.LITERAL)
+			literalFixups.add(reference.name, reference.key, index, programCounter, baseRegister);
+		else if (tokenTable.symTab.search(reference.name, reference.key) < 0)
+			symbolFixups.add(reference.name, reference.key, index, programCounter, baseRegister);
+	}
+
+	/**
+	 * single pass 忡 WORD þ ҵ(ɺ, ɺ )  ɺ   ǵ  ɺ fixup Ѵ.<br>
+	 * ɺ ǵ  WORD ü object code ٽ Ƿ,  ɺ ǵǸ pass2  object code ȴ.
+	 *  ܺ ɺ  Ҵ  ʴ´.
+	 * 
+	 * @param tokenTable:   ū ̺
+	 * @param token: WORD ū
+	 * @param index: ū ε
+	 * @param programCounter: object code   PC 
+	 * @param baseRegister: object code   base register 
+	 */
+	private void addWordFixups(TokenTable tokenTable, Token token, int index, int programCounter, int baseRegister)
+	{
+		for (String element : token.operand)
+		{
+			if (TokenTable.isDecimal(element) || tokenTable.extTab.isReferencedIn(element))
+				continue;
+
+			for (String symbol : element.split("-"))
+				if (tokenTable.symTab.search(symbol) < 0)
+					symbolFixups.add(symbol, SymbolIndex.pack(symbol), index, programCounter, baseRegister);
+		}
+	}
+
+	/**
+	 * single pass 忡   ڵ ,  ̻ ʿ   ̺ fixup .<br>
+	 *  ǵ  ɺ ٸ fixup ̹ pass2  object code  Ƿ ״ .
+	 * 
+	 * @param index:  ȣ
+	 * @param tokenTable:  ū ̺
+	 */
+	private void closeSinglePassSection(int index, TokenTable tokenTable)
+	{
+		checkReferences(tokenTable);
+		addLocalModifications(tokenTable, modifList.get(index));
+		emitSectionRecords(index, tokenTable, symtabList.get(index), literalList.get(index), modifList.get(index));
+		addSourceMapSection(tokenTable, literalList.get(index));
+
+		literalList.set(index, null);
+		externalList.set(index, null);
+		modifList.set(index, null);
+		symbolFixups.clear();
+		literalFixups.clear();
+	}
+
+	/**
+	 * heap 뷮 memoryBudget Ѿٸ  ű  ϼ ǵ  ӽ Ϸ ű heap .<br>
+	 * ǵ 0 ʷ ŰǷ spillFile ϵ   ĺ ű.
+	 * 
+	 * @param index:  ϼ  ȣ
+	 */
+	private void spillSections(int index)
+	{
+		if (ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() <= memoryBudget)
+			return;
+
+		try
+		{
+			for (int i = spillFile.getSectionCount(); i <= index; i++)
+			{
+				spillFile.spill(TokenList.get(i), modifList.get(i));
+				setSection(i, null, null);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * ӽ Ϸ Ű  ٽ о ̺ Ʈ鿡 ִ´. Ű  ̶ ƹ͵  ʴ´.
+	 * 
+	 * @param index:  ȣ
+	 */
+	private void restoreSection(int index)
+	{
+		if (TokenList.get(index) != null)
+			return;
+
+		try
+		{
+			setSection(index, spillFile.readTokenTable(index, instTable), spillFile.readModifTable(index));
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * restoreSection о  ٽ heap .  ӽ Ͽ ִ.
+	 * 
+	 * @param index:  ȣ
+	 */
+	private void releaseSection(int index)
+	{
+		if (spillFile != null && spillFile.contains(index))
+			setSection(index, null, null);
+	}
+
+	/**
+	 *  ū ̺ ũ ̺, modification  ̺ ̺ Ʈ鿡 ִ´.
+	 * 
+	 * @param index:  ȣ
+	 * @param tokenTable: ū ̺. null̸  ̺ 
+	 * @param modifTab: modification  ̺
+	 */
+	private void setSection(int index, TokenTable tokenTable, SymbolTable modifTab)
+	{
+		TokenList.set(index, tokenTable);
+		symtabList.set(index, tokenTable == null ? null : tokenTable.symTab);
+		literalList.set(index, tokenTable == null ? null : tokenTable.litTab);
+		externalList.set(index, tokenTable == null ? null : tokenTable.extTab);
+		modifList.set(index, modifTab);
+	}
+
+	/**
+	 *  ɺ ̺ Ѵ. ӽ Ϸ Ű ̶ ɺ ̺ Ͽ о´.
+	 * 
+	 * @param index:  ȣ
+	 * @return: ɺ ̺
+	 */
+	private SymbolTable getSymbolTable(int index)
+	{
+		if (symtabList.get(index) != null)
+			return symtabList.get(index);
+
+		try
+		{
+			return spillFile.readSymbolTable(index);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 *  ū ̺ peephole ȭ Ѵ.<br>
+	 *  ɾ   ּҿ ̺ ٽ ϰ,  ̻  ɾ   ݺѴ.
+	 * 
+	 * @param index:  ȣ
+	 */
+	private void optimizeSection(int index)
+	{
+		while (optimizer.optimize(TokenList.get(index), symtabList.get(index)))
+			reassignSection(index);
+	}
+
+	/**
+	 *  ū ٲ  ū ּҿ  ɺ, ͷ, ܺ ɺ, modification  ̺ ó ٽ Ѵ.<br>
+	 * pass1  registerToken ʷ Ѵ.
+	 * 
+	 * @param index:  ȣ
+	 */
+	void reassignSection(int index)
+	{
+		symtabList.get(index).clear();
+		literalList.get(index).clear();
+		externalList.get(index).clear();
+		modifList.get(index).clear();
+		locCounter = 0;
+
+		for (int j = 0; j < TokenList.get(index).getSize(); j++)
+			registerToken(TokenList.get(index).getToken(j));
+	}
+
+	/**
+	 *  3 ɾ鿡  PC relative, base relative, 4  ϳ . (relaxation)<br>
+	 *  ɾ 3 ΰ Ͽ, PC relative base relative  ǥ   ɾ 4 ٲ۴.<br>
+	 * 4 ٲ ɾ   ū ּҰ ٲǷ  ּҿ ̺ ٽ ϰ, ٲ ɾ  
+	 * ݺѴ. ɾ 4 ٲ⸸ ϹǷ ݺ ݵ ,   ݺ ū  ϴ ð ɸ.<br>
+	 * ܺ ɺ ϴ ɾ ּҸ   Ƿ 4 ٲ۴. immediate addressing ɺ(#ɺ) ּҶ   ,
+	 * 밪 ɺ̶    ũ .
+	 * 
+	 * @param index:  ȣ
+	 */
+	private void relaxSection(int index)
+	{
+		// tokenTable:  ū ̺
+		// symTab, litTab, extTab:  ɺ, ͷ, ܺ ɺ ̺
+		// promoted: ̹ ݺ 4 ٲ ɾ ִ 
+		long startTime = System.nanoTime();
+		TokenTable tokenTable = TokenList.get(index);
+		SymbolTable symTab = symtabList.get(index);
+		SymbolTable litTab = literalList.get(index);
+		SymbolTable extTab = externalList.get(index);
+		boolean promoted = true;
+
+		while (promoted)
+		{
+			// base: BASE þ  base register 
+			int base = -1;
+			promoted = false;
+			relaxIterations++;
+
+			for (int j = 0; j < tokenTable.getSize(); j++)
+			{
+				Token token = tokenTable.getToken(j);
+
+				if (token.label.equals(".") || token.operator == null)
+					continue;
+				else if (token.operator.equals("BASE"))
+				{
+					base = symTab.search(token.operand[0]);
+					continue;
+				}
+				else if (token.operator.equals("NOBASE"))
+				{
+					base = -1;
+					continue;
+				}
+
+				// ǿڰ ִ 3 ɾ  
+				if (token.byteSize != 3 || instTable.getFormat(token.operator) != 3 || token.operand == null
+						|| instTable.getNumberOfOperand(token.operator) < 1)
+					continue;
+
+				// target: ǿ ּҰ Ǵ 
+				// fits: 3 ǥ  ִ 
+				// operand: ̸ м ǿ
+				Operand operand = token.parsedOperand;
+				int target;
+				boolean fits;
+
+				// immediate addressing  12Ʈ ȿ  ״ 
+				if (operand.mode == Operand.IMMEDIATE && operand.constant)
+				{
+					target = operand.value;
+					fits = target <= 4095;
+				}
+				else
+				{
+					if (operand.mode == Operand.LITERAL)
+						target = litTab.search(operand.name, operand.key);
+					else
+						target = symTab.search(operand.name, operand.key);
+
+					//  ǿ  ɺ  ܺ ɺ̶ 4 ٲٰ ƴ϶ ״ 
+					if (target < 0)
+						fits = !extTab.isReferencedIn(operand.name);
+					// immediate addressing 밪 ɺ 12Ʈ ȿ  ״ 
+					else if (operand.mode == Operand.IMMEDIATE && symTab.isAbsolute(operand.name, operand.key))
+					{
+						token.clearFlag(TokenTable.pFlag);
+						token.clearFlag(TokenTable.bFlag);
+						fits = target <= 4095;
+					}
+					// PC relative ǥ  ִ 
+					else if (target - (token.location + 3) >= -2048 && target - (token.location + 3) <= 2047)
+					{
+						token.setFlag(TokenTable.pFlag, 1);
+						token.clearFlag(TokenTable.bFlag);
+						fits = true;
+					}
+					// base relative ǥ  ִ 
+					else if (base >= 0 && target - base >= 0 && target - base <= 4095)
+					{
+						token.setFlag(TokenTable.bFlag, 1);
+						token.clearFlag(TokenTable.pFlag);
+						fits = true;
+					}
+					else
+						fits = false;
+				}
+
+				// 3 ǥ    4 ٲ
+				if (!fits)
+				{
+					token.operator = "+" + token.operator;
+					token.byteSize = 4;
+					token.clearFlag(TokenTable.pFlag);
+					token.clearFlag(TokenTable.bFlag);
+					token.setFlag(TokenTable.eFlag, 1);
+					relaxPromoted++;
+					promoted = true;
+				}
+			}
+
+			// 4 ٲ ɾ ִٸ  ּҿ ̺ ٽ 
+			if (promoted)
+				reassignSection(index);
+		}
+
+		//   ɺ  ּҷ ϰ  4 ɾ modification 
+		// finishSection ٸ 4 ɾ  ߰
+		relaxTime += System.nanoTime() - startTime;
+	}
+
+	/**
+	 * pipeline 忡 pass1 pass2 ÿ Ѵ.<br>
+	 * pass1    ( CSECT ų Է  ) ش  ̺ bounded queue  pass2
+	 * worker Ѱְ, worker   Ʈ ڵ带 .    pass1, pass2 ʷ  
+	 * .
+	 * 
+	 * @param capacity: pass1 pass2     ִ  ִ 
+	 * @throws IllegalStateException: pass2 worker ߰ų  Ѱִ ߿ ߴܵ 
+	 */
+	private void pipelinedPass(int capacity)
+	{
+		// worker: pass2 ϴ thread
+		// failure: worker ߻ 
+		// queue: worker  ޴ queue. pass1 ߴܵǾ sectionQueue  ڿ worker   ֵ  
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final BlockingQueue<Section> queue = new ArrayBlockingQueue<>(capacity);
+		sectionQueue = queue;
+
+		Thread worker = new Thread(new Runnable()
+		{
+			public void run()
+			{
+				try
+				{
+					//  ǥø      pass2 
+					Section section;
+					while ((section = queue.take()) != Section.END)
+					{
+						//  ǿ   pass1 queue  ʵ   ޱ⸸ 
+						if (failure.get() != null)
+							continue;
+
+						try
+						{
+							pass2Section(section.index, section.tokenTable, section.symTab, section.litTab, section.modifTab);
+						}
+						catch (RuntimeException e)
+						{
+							failure.set(e);
+						}
+					}
+				}
+				catch (InterruptedException e)
+				{
+					// pass1 Ͽ ߴܵ .   ڵ  ʾǷ з 
+					failure.compareAndSet(null, e);
 				}
 			}
-			bufferedWriter.close();
+		}, "pass2-worker");
+		worker.start();
+
+		try
+		{
+			pass1();
+			sectionQueue.put(Section.END);
+			worker.join();
 		}
-		catch (IOException e)
+		catch (InterruptedException e)
 		{
-
+			// pass2    Ƿ Ϻθ  Ʈ α׷ µ ʵ з ó
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("pipeline interrupted", e);
+		}
+		finally
+		{
+			// pass1  쿡 worker  ʵ ߴܽŴ
+			worker.interrupt();
+			sectionQueue = null;
 		}
+
+		if (failure.get() != null)
+			throw new IllegalStateException("pass2 worker failed", failure.get());
 	}
 
 	/**
-	 * ۼ SymbolTable ¿ ° Ѵ.<br>
+	 * pass1 ϼ  Ѵ.<br>
+	 * 1) ȭ  ʿ ɾ <br>
+	 * 2) relax  ɾ ּ  İ  <br>
+	 * 3) ɾ ϴ ɺ  ǵǾ Ȯϰ,   ּҸ ϴ 4 ɾ modification  ߰<br>
+	 * 4) ɺ ּҰ ȮǾǷ ּҷ ɺ ã  , source map    <br>
+	 * 5) compact   ū ̺    ٲ<br>
+	 * 6) pipeline   pass2 worker Ѱ. worker з queue    ڸ   ٸ.<br>
+	 * 7) ƴ϶ heap 뷮 ѵ   ϼ ǵ ӽ Ϸ ű
 	 * 
-	 * @param fileName
-	 *            : Ǵ  ̸
+	 * @param index: ϼ  ȣ
 	 */
-	private void printSymbolTable(String fileName)
+	private void finishSection(int index)
 	{
-		// TODO Auto-generated method stub
-		try
-		{
-			// ڷ  ̸  
-			// ɺ ̺   BufferedWriter 
-			File file = new File(fileName);
-			BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(file));
-			// output:  ɺ   ڿ
-			String output;
+		if (optimizer != null)
+			optimizeSection(index);
 
-			if (file.isFile() && file.canWrite())
-			{
-				for (int i = 0; i < symtabList.size(); i++)
-				{
-					for (int j = 0; j < symtabList.get(i).getSize(); j++)
-					{
-						// output = <Symbol>	<location> · 
-						// location  16  빮ڷ 
-						output = symtabList.get(i).getSymbol(j) + "\t"
-								+ Integer.toHexString(symtabList.get(i).getLocation(j)).toUpperCase();
+		if (relaxFormats)
+			relaxSection(index);
 
-						bufferedWriter.write(output);
-						bufferedWriter.newLine();
-					}
+		checkReferences(TokenList.get(index));
+		addLocalModifications(TokenList.get(index), modifList.get(index));
+		symtabList.get(index).getAddressIndex();
+		addSourceMapSection(TokenList.get(index), literalList.get(index));
 
-					bufferedWriter.newLine();
-				}
-			}
+		if (compactTokens)
+			TokenList.get(index).compact();
 
-			bufferedWriter.close();
-		}
-		catch (IOException e)
+		if (sectionQueue == null)
 		{
-			System.err.println(e);
+			if (spillFile != null)
+				spillSections(index);
+			return;
 		}
 
+		try
+		{
+			sectionQueue.put(new Section(index, TokenList.get(index), symtabList.get(index), literalList.get(index), modifList.get(index)));
+		}
+		catch (InterruptedException e)
+		{
+			//  Ѱ Ƿ pass1 ߴ
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while handing off section " + index, e);
+		}
 	}
 
 	/**
-	 * pass1  Ѵ.<br>
-	 * 1) α׷ ҽ ĵϿ ū и  ū̺ <br>
-	 * 2) label symbolTable <br>
-	 * <br>
-	 * <br>
-	 * ǻ : SymbolTable TokenTable α׷ section ϳ Ǿ Ѵ.
+	 * pass1  ū ϳ  ̺ Ѵ.<br>
+	 * 1) label symbolTable, ͷ literal table <br>
+	 * 2) EXTREF ɺ modification record  <br>
+	 * 3) ū ּҰ  locCounter  ϰ, ū ũ⸸ŭ locCounter  
+	 * 
+	 * @param currentToken:  ū
 	 */
-	private void pass1()
+	private void registerToken(Token currentToken)
 	{
-		// TODO Auto-generated method stub
-		// tokenIndex: Ǻ ū ̺  ֱ  ū ε
-		// line: ش ū Ľ ҽ ڵ 
 		// literal: ۷忡 ִ ͷ
-		// currentToken: ֱ  ū
-		int tokenIndex = 0;
-		String line, literal;
-		Token currentToken;
+		String literal;
 
-		// input  о ҽڵ  ŭ ݺ
-		for (int i = 0; i < lineList.size(); i++)
-		{
-			// lineListκ ū Ľ  
-			line = lineList.get(i);
+		// ּ ƴ   locCounter  ū ּҰ 
+		if (!currentToken.label.equals("."))
+			currentToken.location = locCounter;
 
-			// ο "START" ڿ Ե 
-			if (line.contains("START"))
+		// ̺ ϴµ, '.' ƴ  ش ̺ ɺ̺ ־
+		if (!currentToken.label.equals("") && !currentToken.label.equals("."))
+		{
+			// ڰ EQU þ 
+			// ̺ ɺ, ǿڸ Ͽ ɺ ּҷ ־
+			if (currentToken.operator.equals("EQU"))
 			{
-				//  ҽڵ ּҰ ϴ locCounter ʱȭ
-				// Ǻ ū ̺  ֱ  ū ε ʱȭ
-				// ʿ ̺ ü Ͽ  List ־
-				locCounter = 0;
-				tokenIndex = 0;
-				symtabList.add(new SymbolTable());
-				literalList.add(new SymbolTable());
-				externalList.add(new SymbolTable());
-				modifList.add(new SymbolTable());
-				TokenList.add(new TokenTable(symtabList.get(programNumber), literalList.get(programNumber), externalList.get(programNumber), instTable));
+				symtabList.get(programNumber).putSymbol(currentToken.label, operateAddress(currentToken.operand[0]));
+
+				// "*" ƴ ǿ(, ɺ ) ǵ ɺ ּҰ ƴ 밪
+				if (!currentToken.operand[0].equals("*"))
+					symtabList.get(programNumber).markAbsolute(currentToken.label);
 			}
-			else if (lineList.get(i).contains("CSECT"))
+			// ̿ 
+			// ̺ ɺ, locCounter  ɺ ּҷ ־
+			else
 			{
-				//    programNumber  
-				//  ҽڵ ּҰ ϴ locCounter ʱȭ
-				// Ǻ ū ̺  ֱ  ū ε ʱȭ
-				// ʿ ̺ ü Ͽ  List ־
-				programNumber++;
-				locCounter = 0;
-				tokenIndex = 0;
-				symtabList.add(new SymbolTable());
-				literalList.add(new SymbolTable());
-				externalList.add(new SymbolTable());
-				modifList.add(new SymbolTable());
-				TokenList.add(new TokenTable(symtabList.get(programNumber), literalList.get(programNumber), externalList.get(programNumber), instTable));
+				symtabList.get(programNumber).putSymbol(currentToken.label, locCounter);
 			}
-			
-			// ش ҽ ڵ  token ߰
-			TokenList.get(programNumber).putToken(line);
-			
-			//   ū  
-			currentToken = TokenList.get(programNumber).getToken(tokenIndex);
 
-			// ̺ ϴµ, '.' ƴ  ش ̺ ɺ̺ ־
-			if (!currentToken.label.equals("") && !currentToken.label.equals("."))
+			// ǿڿ "=" ǥð ִ  (ͷ )
+			// ش ǿڸ ͷ, ͷ ּҷ 0 ־
+			if (currentToken.operand != null && currentToken.operand[0].startsWith("="))
 			{
-				// ڰ EQU þ 
-				// ̺ ɺ, ǿڸ Ͽ ɺ ּҷ ־
-				if (currentToken.operator.equals("EQU"))
-				{
-					symtabList.get(programNumber).putSymbol(currentToken.label, operateAddress(currentToken.operand[0]));
-				}
-				// ̿ 
-				// ̺ ɺ, locCounter  ɺ ּҷ ־
-				else
+				literalList.get(programNumber).putSymbol(currentToken.operand[0], 0);
+			}
+		}
+		
+		// ڰ ϴ 
+		if (currentToken.operator != null)
+		{
+			// ش ڰ "LTORG" "END" þ 
+			if (currentToken.operator.equals("LTORG") || currentToken.operator.equals("END"))
+			{
+				// ش α׷ Ǿ ͷ ּҰ locCouner  
+				for (int j = 0; j < literalList.get(programNumber).getSize(); j++)
 				{
-					symtabList.get(programNumber).putSymbol(currentToken.label, locCounter);
-				}
+					literal = literalList.get(programNumber).getSymbol(j);
+					literalList.get(programNumber).modifySymbol(literal, locCounter);
 
-				// ǿڿ "=" ǥð ִ  (ͷ )
-				// ش ǿڸ ͷ, ͷ ּҷ 0 ־
-				if (currentToken.operand != null && currentToken.operand[0].contains("="))
-				{
-					literalList.get(programNumber).putSymbol(currentToken.operand[0], 0);
+					// ͷ ũ⸸ŭ locCounter  Ŵ
+					locCounter += TokenTable.constantSize(literal);
 				}
 			}
-			
-			// ڰ ϴ 
-			if (currentToken.operator != null)
+			// ڰ "EXTREF" þ 
+			else if (currentToken.operator.equals("EXTREF"))
+			{
+				// ǿڷ  ɺ  ŭ external ̺ ־
+				for (int j = 0; j < currentToken.operand.length; j++)
+					externalList.get(programNumber).putSymbol(currentToken.operand[j], 0);
+			}
+			//    ǿڰ Ѵٸ
+			else if(currentToken.operand != null)
 			{
-				// ش ڰ "LTORG" "END" þ 
-				if (currentToken.operator.equals("LTORG") || currentToken.operator.equals("END"))
+				// WORD 迭 Ҹ,  ܿ ù° ǿڸ ˻
+				// 迭 Ҵ 3Ʈ  Ƿ Ҹ  ּҰ ٸ
+				int elements = currentToken.operator.equals("WORD") ? currentToken.operand.length : 1;
+				for (int e = 0; e < elements; e++)
 				{
-					// ش α׷ Ǿ ͷ ּҰ locCouner  
-					for (int j = 0; j < literalList.get(programNumber).getSize(); j++)
-					{
-						literal = literalList.get(programNumber).getSymbol(j);
-						literalList.get(programNumber).modifySymbol(literal, locCounter);
+					// element: ˻ ǿ. modification  ɺ ̸ Ƿ '#', '@' ǥô 
+					// location: ǿڰ  object code ּ
+					String element = currentToken.operand[e];
+					if (element.startsWith("#") || element.startsWith("@"))
+						element = element.substring(1);
+					int location = locCounter + e * 3;
 
-						// ͷ  locCounter  Ŵ
-						if (literal.contains("X"))
+					// ǿڿ extref   ɺ ִ  modification  ̺ ۼ
+					// external ̺  ǿ ɺ ã
+					if(externalList.get(programNumber).isReferencedIn(element))
+					{
+						// ⺻   6 
+						int modifSize = 6;
+						
+						// 4Ŀ ǿڷ     5
+						if(currentToken.operator.contains("+"))
 						{
-							locCounter++;
+							modifSize = 5;
 						}
-						else if (literal.contains("C"))
+						
+						// ۷忡 (-) Ե 
+						// ɺ 꿡  ʷ modif ̺ ߰
+						// ɺ,  ּҰ,  
+						// +ɺ1 / -ɺ2
+						if(element.contains("-"))
 						{
-							literal = literal.replaceAll("C|\'", "");
-							locCounter += literal.length();
+							String opSymbols[] = element.split("-");
+							modifList.get(programNumber).putModifSymbol("+"+opSymbols[0], location + (6-modifSize), modifSize);
+							modifList.get(programNumber).putModifSymbol("-"+opSymbols[1], location + (6-modifSize), modifSize);
 						}
+						// ̿  +ɺ ·θ ߰
+						else
+							modifList.get(programNumber).putModifSymbol("+"+element, location + (6-modifSize), modifSize);
 					}
 				}
-				// ڰ "EXTREF" þ 
-				else if (currentToken.operator.equals("EXTREF"))
-				{
-					// ǿڷ  ɺ  ŭ external ̺ ־
-					for (int j = 0; j < currentToken.operand.length; j++)
-						externalList.get(programNumber).putSymbol(currentToken.operand[j], 0);
-				}
-				//    ǿڰ Ѵٸ
-				else if(currentToken.operand != null)
+			}
+		}
+		//  ū ũ⸸ŭ locCounter  
+		locCounter += currentToken.byteSize;
+	}
+
+	/**
+	 * ū  ǿ ǵ relocatable ɺ̳ ͷ ּҸ ״ ϴ 4 ɾ ȮѴ. ̷ ɾ
+	 * ּҴ ε ġ  Ǿ ϹǷ  ̸ modification  . immediate , 밪 ɺ(EQU ,
+	 * ɺ )  ǿ  ɺ(ܺ ɺ) ϴ  Ѵ.  ɺ  ǵ  ؾ Ѵ.
+	 * 
+	 * @param token: Ȯ ū
+	 * @param symTab: ū   ɺ ̺
+	 * @param litTab: ū   ͷ ̺
+	 * @return:  ̸ modification   ϸ true
+	 */
+	static boolean isLocalFormat4(Token token, SymbolTable symTab, SymbolTable litTab)
+	{
+		Operand operand = token.parsedOperand;
+		if (token.operator == null || !token.operator.startsWith("+") || operand == null || operand.constant)
+			return false;
+
+		if (operand.mode == Operand.LITERAL)
+			return litTab.search(operand.name, operand.key) >= 0;
+
+		return symTab.search(operand.name, operand.key) >= 0 && !symTab.isAbsolute(operand.name, operand.key);
+	}
+
+	/**
+	 *  ɺ  ǵ ,   relocatable ɺ̳ ͷ ּҸ ״ ϴ 4 ɾ 
+	 * ̸ modification  ߰Ѵ. registerToken ߰ ܺ ɺ modification  ּ  ģ.
+	 * 
+	 * @param tokenTable:  ū ̺. ɺ, ͷ ̺ ũǾ ־ 
+	 * @param modifTab:  modification  ̺
+	 */
+	void addLocalModifications(TokenTable tokenTable, SymbolTable modifTab)
+	{
+		// symbols, locations, sizes: registerToken ߰ modification . ּ  Ǿ 
+		// next:  ű modification  ġ
+		// section:  ̸ (START, CSECT ̺)
+		int count = modifTab.getSize();
+		String[] symbols = new String[count];
+		int[] locations = new int[count], sizes = new int[count];
+		for (int k = 0; k < count; k++)
+		{
+			symbols[k] = modifTab.getSymbol(k);
+			locations[k] = modifTab.getLocation(k);
+			sizes[k] = modifTab.getModifSize(k);
+		}
+
+		modifTab.clear();
+		int next = 0;
+		String section = tokenTable.getToken(0).label;
+		for (int j = 0; j < tokenTable.getSize(); j++)
+		{
+			Token token = tokenTable.getToken(j);
+			if ("START".equals(token.operator) || "CSECT".equals(token.operator))
+				section = token.label;
+			if (!isLocalFormat4(token, tokenTable.symTab, tokenTable.litTab))
+				continue;
+
+			for (; next < count && locations[next] <= token.location + 1; next++)
+				modifTab.putModifSymbol(symbols[next], locations[next], sizes[next]);
+			modifTab.putModifSymbol("+" + section, token.location + 1, 5);
+		}
+
+		for (; next < count; next++)
+			modifTab.putModifSymbol(symbols[next], locations[next], sizes[next]);
+	}
+
+	/**
+	 *  ɺ  ǵ , 3, 4 ɾ WORD þ ǿڷ ϴ ɺ  ǿ ǵǾ ְų ܺ ɺ
+	 * Ǿ ִ, ϴ ͷ ͷ ̺ ִ ȮѴ.
+	 * 
+	 * @param tokenTable:  ū ̺. ɺ, ͷ, ܺ ɺ ̺ ũǾ ־ 
+	 * @throws IllegalArgumentException: ǵ  ɺ̳ ͷ  
+	 */
+	void checkReferences(TokenTable tokenTable)
+	{
+		for (int j = 0; j < tokenTable.getSize(); j++)
+		{
+			Token token = tokenTable.getToken(j);
+			Operand operand = token.parsedOperand;
+			if (token.byteSize < 3 || operand == null || operand.name == null)
+				continue;
+
+			// WORD Ҹ Ŀ  ɺ Ȯ
+			if (token.operator.equals("WORD"))
+			{
+				for (String element : token.operand)
 				{
-					// external ̺ ִ  ŭ modification  ̺ ۼ
-					for(int j = 0; j < externalList.get(programNumber).getSize(); j++)
-					{
-						// ǿڿ ɺ extref   ɺ ִ 
-						if(currentToken.operand[0].contains(externalList.get(programNumber).getSymbol(j)))
-						{
-							// ⺻   6 
-							int modifSize = 6;
-							
-							// 4Ŀ ǿڷ     5
-							if(currentToken.operator.contains("+"))
-							{
-								modifSize = 5;
-							}
-							
-							// ۷忡 (-) Ե 
-							// ɺ 꿡  ʷ modif ̺ ߰
-							// ɺ,  ּҰ,  
-							// +ɺ1 / -ɺ2
-							if(currentToken.operand[0].contains("-"))
-							{
-								String opSymbols[] = currentToken.operand[0].split("-");
-								modifList.get(programNumber).putModifSymbol("+"+opSymbols[0], locCounter + (6-modifSize), modifSize);
-								modifList.get(programNumber).putModifSymbol("-"+opSymbols[1], locCounter + (6-modifSize), modifSize);
-							}
-							// ̿  +ɺ ·θ ߰
-							else
-								modifList.get(programNumber).putModifSymbol("+"+currentToken.operand[0], locCounter + (6-modifSize), modifSize);
-							break;
-						}
-					}
+					if (TokenTable.isDecimal(element) || tokenTable.extTab.isReferencedIn(element))
+						continue;
+
+					for (String symbol : element.split("-"))
+						if (tokenTable.symTab.search(symbol) < 0)
+							throw TokenTable.operandError(token, "undefined symbol " + symbol);
 				}
+				continue;
 			}
-			//  ū ũ⸸ŭ locCounter  
-			locCounter += currentToken.byteSize;
-			//ū ε  
-			tokenIndex++;
+
+			String operator = token.operator.startsWith("+") ? token.operator.substring(1) : token.operator;
+			if (!instTable.isInstruction(operator) || instTable.getFormat(operator) != 3)
+				continue;
+
+			if (operand.mode == Operand.LITERAL)
+			{
+				if (tokenTable.litTab.search(operand.name, operand.key) < 0)
+					throw TokenTable.operandError(token, "undefined literal");
+			}
+			else if (tokenTable.symTab.search(operand.name, operand.key) < 0 && !tokenTable.extTab.isReferencedIn(operand.name))
+				throw TokenTable.operandError(token, "undefined symbol");
 		}
 	}
 
@@ -335,169 +2586,191 @@ public class Assembler
 	private void pass2()
 	{
 		// TODO Auto-generated method stub
-		// currentToken: Ʈ ڵ带  ū
-		// codeLine: Ʈ α׷   ڵ 
-		// tokenIndex:  ڵο  Ʈ ڵ(ū) 
-		// lineSize:  ο  ڵ Ʈ 
-		Token currentToken;
-		String codeLine = "";
-		int tokenIndex = 0, lineSize = 0;
-
 		//   ū Ʈ ڵ  , Ʈ α׷ ڵ  ۼ
+		// ӽ Ϸ Ű  pass2 ȸ ٽ о
 		for (int i = 0; i < TokenList.size(); i++)
 		{
-			// ش  ū Ʈ ڵ 
-			for (int j = 0; j < TokenList.get(i).getSize(); j++)
-			{
-				TokenList.get(i).makeObjectCode(j);
-			}
+			restoreSection(i);
+			pass2Section(i, TokenList.get(i), symtabList.get(i), literalList.get(i), modifList.get(i));
+			releaseSection(i);
+		}
+	}
 
-			// ش  ū  ŭ 
-			for (int j = 0; j < TokenList.get(i).getSize(); j++)
-			{
-				// ū ϳ 
-				currentToken = TokenList.get(i).getToken(j);
+	/**
+	 *  ǿ  pass2  Ѵ.  ̺ pass1 ̹ ϼǾ ־ Ѵ.
+	 * 
+	 * @param i:  ȣ
+	 * @param tokenTable: ش  ū ̺
+	 * @param symTab: ش  ɺ ̺
+	 * @param litTab: ش  ͷ ̺
+	 * @param modifTab: ش  modification  ̺
+	 */
+	void pass2Section(int i, TokenTable tokenTable, SymbolTable symTab, SymbolTable litTab, SymbolTable modifTab)
+	{
+		// ش  ū Ʈ ڵ 
+		for (int j = 0; j < tokenTable.getSize(); j++)
+		{
+			tokenTable.makeObjectCode(j);
+		}
 
-				// ش ū ̺ "." ,
-				//  ҽ ڵ尡 ƴ ּ̹Ƿ 
-				if (currentToken.label.equals("."))
-				{
-					continue;
-				}
-				// ū ڰ "START"þ "CSECT"þ 
-				// Header record ۼ
-				else if (currentToken.operator.equals("START") || currentToken.operator.equals("CSECT"))
-				{
-					// ο  α׷ ̹Ƿ ū ε 0 ʱȭ
-					tokenIndex = 0;
+		emitSectionRecords(i, tokenTable, symTab, litTab, modifTab);
+	}
 
-					//  ּҷ ش  α׷ ù° ū ִ ּҰ 
-					int startAddress = TokenList.get(i).getToken(0).location;
-					// ش  α׷ ū Ʈ  ͷ ũ⸦  
-					//  α׷ ũ⸦ 
-					int programSize = 0;
-					for (int k = 0; k < TokenList.get(i).getSize(); k++)
-						programSize += TokenList.get(i).getToken(k).byteSize;
+	/**
+	 * object code     ڵ ʷ Ѵ.
+	 * 
+	 * @param i:  ȣ
+	 * @param tokenTable: ش  ū ̺
+	 * @param symTab: ش  ɺ ̺
+	 * @param litTab: ش  ͷ ̺
+	 * @param modifTab: ش  modification  ̺
+	 */
+	void emitSectionRecords(int i, TokenTable tokenTable, SymbolTable symTab, SymbolTable litTab, SymbolTable modifTab)
+	{
+		// currentToken: ڵ带 ۼ ū
+		// codeLine: Ʈ α׷   ڵ 
+		// tokenIndex: Text record鿡   ù° ū ε
+		Token currentToken;
+		String codeLine = "";
+		int tokenIndex = 0;
 
-					for (int k = 0; k < literalList.get(i).getSize(); k++)
-						programSize += literalList.get(i).getLiteralSize(k);
+		// ش  ū  ŭ 
+		for (int j = 0; j < tokenTable.getSize(); j++)
+		{
+			// ū ϳ 
+			currentToken = tokenTable.getToken(j);
 
-					//  α׷ ̸,  ּ, α׷ ũ⸦  Header record ۼ
-					codeLine = "H" + currentToken.label + " "
-							+ String.format("%06X%06X", startAddress, programSize - startAddress);
-				}
-				// ū ڰ "EXTDEF" þ 
-				// Define record ۼ
-				else if (currentToken.operator.equals("EXTDEF"))
-				{
-					// ش ū ǿڷ ִ  ɺ  Define record ۼ
-					codeLine = "D";
-					for (int k = 0; k < currentToken.operand.length; k++)
-						codeLine += currentToken.operand[k]
-								+ String.format("%06X", symtabList.get(i).search(currentToken.operand[k]));
-				}
-				// ū ڰ "EXTREF" þ 
-				// Refer record ۼ
-				else if (currentToken.operator.equals("EXTREF"))
-				{
-					// ش ū ǿڷ ִ  ɺ  Refer record ۼ
-					codeLine = "R";
-					for (int k = 0; k < currentToken.operand.length; k++)
-						codeLine += currentToken.operand[k];
-				}
-				// ū ڰ ɾ̰ų "BYTE", "WORD" þ 
-				// Text record ۼ
-				else if (instTable.isInstruction(currentToken.operator)
-						| currentToken.operator.equals("BYTE") | currentToken.operator.equals("WORD"))
-				{
-					lineSize = 0;
-					tokenIndex = j;
-					//  ڵ    ū ۼ  
-					while (tokenIndex < TokenList.get(i).getSize())
-					{
-						if (TokenList.get(i).getToken(tokenIndex).byteSize == 0
-								|| TokenList.get(i).getToken(tokenIndex).operator.equals("RESW")
-								|| TokenList.get(i).getToken(tokenIndex).operator.equals("RESB")
-								|| (lineSize + TokenList.get(i).getToken(tokenIndex).byteSize) > 30)
-							break;
-
-						lineSize += TokenList.get(i).getToken(tokenIndex).byteSize;
-						tokenIndex++;
-					}
+			// ش ū ̺ "." ,
+			//  ҽ ڵ尡 ƴ ּ̹Ƿ 
+			if (currentToken.label.equals("."))
+			{
+				continue;
+			}
+			// ū ڰ "START"þ "CSECT"þ 
+			// Header record ۼ
+			else if (currentToken.operator.equals("START") || currentToken.operator.equals("CSECT"))
+			{
+				// ο  α׷ ̹Ƿ ū ε 0 ʱȭ
+				tokenIndex = 0;
 
-					//  ū ּҰ,  ο  ū Ʈ ũ , ū Ʈ ڵ
-					// Text record ۼ
-					codeLine = "T" + String.format("%06X%02X", currentToken.location, lineSize);
+				//  α׷ ̸,  ּ, α׷ ũ⸦  Header record ۼ
+				codeLine = makeHeaderRecord(currentToken, tokenTable, litTab);
+			}
+			// ū ڰ "EXTDEF" þ 
+			// Define record ۼ
+			else if (currentToken.operator.equals("EXTDEF"))
+			{
+				// ش ū ǿڷ ִ  ɺ  Define record ۼ
+				codeLine = makeDefineRecord(currentToken, symTab);
+			}
+			// ū ڰ "EXTREF" þ 
+			// Refer record ۼ
+			else if (currentToken.operator.equals("EXTREF"))
+			{
+				// ش ū ǿڷ ִ  ɺ  Refer record ۼ
+				codeLine = "R";
+				for (int k = 0; k < currentToken.operand.length; k++)
+					codeLine += currentToken.operand[k];
+			}
+			// ū ڰ ɾ̰ų "BYTE", "WORD" þ 
+			// Text record ۼ
+			else if (isTextToken(currentToken))
+			{
+				// ӵ ū Ʈ ڵ带 30Ʈ  Text record  
+				//  Ȯ ū Text record   ù° ū
+				tokenIndex = (int) writeTextRecords(tokenTable, j, true)[0];
+				j = Math.max(tokenIndex, j + 1) - 1;
+				continue;
+			}
+			// ū ڰ "LTORG" þ "END" þ 
+			// ش  α׷ ͷ  Ʈ ڵ 
+			else if (currentToken.operator.equals("LTORG") || currentToken.operator.equals("END"))
+			{
+				// ͷ ͸ 30Ʈ  Text record  
+				writeLiteralRecords(currentToken.location, litTab, true);
+				continue;
+			}
+			else  // ̿  
+				continue;
 
-					for (int k = j; k < tokenIndex; k++, j++)
-					{
-						codeLine += TokenList.get(i).getToken(k).objectCode;
-					}
+			//   ڵ  
+			emitRecord(codeLine);
+		}
+		
+		//  α׷  Ʈ α׷ ۼ  
+		// Modification record ۼ
+		// modif table ص    
+		for(int j = 0; j < modifTab.getSize(); j++)
+		{
+			recordBuffer.setLength(0);
+			recordBuffer.append('M');
+			TokenTable.appendHex(recordBuffer, modifTab.getLocation(j), 6);
+			TokenTable.appendHex(recordBuffer, modifTab.getModifSize(j), 2);
+			emitRecord(recordBuffer.append(modifTab.getSymbol(j)).toString());
+		}
 
-					j--;
-				}
-				// ū ڰ "LTORG" þ "END" þ 
-				// ش  α׷ ͷ  Ʈ ڵ 
-				else if (currentToken.operator.equals("LTORG") || currentToken.operator.equals("END"))
-				{
-					lineSize = 0;
-					//  ͷ Ʈ ũ  
-					for (int k = 0; k < literalList.get(i).getSize(); k++)
-					{
-						lineSize += literalList.get(i).getLiteralSize(k);
-					}
+		// End record ۼ
+		emitRecord(makeEndRecord(i, tokenTable));
+	}
 
-					// Text record ۼ
-					codeLine = "T" + String.format("%06X%02X", currentToken.location, lineSize);
+	/**
+	 *  Header record . pass2 measureObjectCode Բ Ѵ.
+	 * 
+	 * @param currentToken: START Ǵ CSECT ū
+	 * @param tokenTable: ش  ū ̺
+	 * @param litTab: ش  ͷ ̺
+	 * @return: Header record
+	 */
+	private static String makeHeaderRecord(Token currentToken, TokenTable tokenTable, SymbolTable litTab)
+	{
+		//  ּҷ ش  α׷ ù° ū ִ ּҰ 
+		int startAddress = tokenTable.viewToken(0).location;
+		// ش  α׷ ū Ʈ  ͷ ũ⸦  
+		//  α׷ ũ⸦ 
+		int programSize = 0;
+		for (int k = 0; k < tokenTable.getSize(); k++)
+			programSize += tokenTable.viewToken(k).byteSize;
 
-					for (int k = 0; k < literalList.get(i).getSize(); k++)
-					{
-						//  ͷ  κи  Ʈ ڵ 
-						String literalData = literalList.get(i).getSymbol(k);
-						// "X" · ǥ    ͺκ ״ Ʈ ڵ 
-						if (literalData.contains("X"))
-						{
-							literalData = literalData.replaceAll("X|\'", "");
-						}
-						// "C" · ǥ    κ  ڸ ƽŰڵ尪 ȯϿ
-						// Ʈ ڵ 
-						else if (literalData.contains("C"))
-						{
-							String temp = "";
-							literalData = literalData.replaceAll("C|\'", "");
+		for (int k = 0; k < litTab.getSize(); k++)
+			programSize += litTab.getLiteralSize(k);
 
-							for (int l = 0; l < literalList.get(i).getLiteralSize(k); l++)
-								temp += String.format("%02X", (int) literalData.charAt(l));
-							literalData = temp;
-						}
-						codeLine += literalData;
-					}
-				}
-				else  // ̿  
-					continue;
+		return "H" + currentToken.label + " " + toAddressHex(startAddress) + toAddressHex(programSize - startAddress);
+	}
 
-				//   ڵ  code list ߰
-				codeList.add(codeLine);
-			}
-			
-			//  α׷  Ʈ α׷ ۼ  
-			// Modification record ۼ
-			// modif table ص    
-			for(int j = 0; j < modifList.get(i).getSize(); j++)
-				codeList.add("M" + String.format("%06X%02X", modifList.get(i).getLocation(j), modifList.get(i).getModifSize(j)) + modifList.get(i).getSymbol(j));
-
-			// ù° α׷  쿡 End record Բ ּ ǥ
-			// ̿ α׷  쿡 End record ǥ
-			if (i == 0)
-				codeList.add("E" + String.format("%06X", TokenList.get(i).getToken(0).location));
-			else
-				codeList.add("E");
-		}
+	/**
+	 * EXTDEF ū Define record . pass2 measureObjectCode Բ Ѵ.
+	 * 
+	 * @param currentToken: EXTDEF ū
+	 * @param symTab: ش  ɺ ̺
+	 * @return: Define record. ǵ  ɺ ּҴ FFFFFFFF µ
+	 */
+	private static String makeDefineRecord(Token currentToken, SymbolTable symTab)
+	{
+		String codeLine = "D";
+		for (int k = 0; k < currentToken.operand.length; k++)
+			codeLine += currentToken.operand[k] + toAddressHex(symTab.search(currentToken.operand[k]));
+		return codeLine;
+	}
 
+	/**
+	 *  End record . ù° α׷  쿡 ּҸ Բ ǥϰ,
+	 * ̿ α׷  쿡 End record ǥѴ.
+	 * 
+	 * @param i:  ȣ
+	 * @param tokenTable: ش  ū ̺
+	 * @return: End record
+	 */
+	private String makeEndRecord(int i, TokenTable tokenTable)
+	{
+		if (i + sectionOffset == 0)
+			return "E" + toAddressHex(tokenTable.viewToken(0).location);
+		return "E";
 	}
 
 	/**
 	 * inputFile о鿩 lineList Ѵ.<br>
+	 * gzip    thread  Ǫ  о  ٷ Token м ξ,  Ǯ
+	 * м ļ ǵ Ѵ. м Token lexInput  pass1 ȴ.
 	 * 
 	 * @param inputFile
 	 *            : input  ̸.
@@ -509,18 +2782,31 @@ public class Assembler
 		{
 			// ڷ  ̸  
 			// input ҽڵ带 о  BufferedReader 
-			File file = new File(inputFile);
-			FileReader fileReader = new FileReader(file);
-			BufferedReader bufReader = new BufferedReader(fileReader);
+			//  ̶  Ǯ鼭 
+			BufferedReader bufReader = CompressedFiles.openReader(inputFile);
 			// line: input Ͽ о  
 			String line = "";
+			// lexed: 鼭 м Token.  ʾҰų, ̹   ְų, ӽ Ϸ  ű 
+			// ( Token ̸  heap ѵ ų  ) м 
+			Token[] lexed = null;
+			if (CompressedFiles.isCompressed(inputFile) && lineList.isEmpty() && lexedTokens == null && spillFile == null)
+				lexed = new Token[1024];
 
 			// о ε line list 
 			while ((line = bufReader.readLine()) != null)
 			{
+				if (lexed != null)
+				{
+					if (lineList.size() == lexed.length)
+						lexed = Arrays.copyOf(lexed, lexed.length * 2);
+					lexed[lineList.size()] = ParseCache.getToken(line, instTable, null, !compactTokens, parseCacheEnabled);
+				}
 				lineList.add(line);
 			}
 			bufReader.close();
+
+			if (lexed != null)
+				lexedTokens = Arrays.copyOf(lexed, lineList.size());
 		}
 		catch (FileNotFoundException e)
 		{
@@ -532,13 +2818,29 @@ public class Assembler
 		}
 	}
 
+	/**
+	 * lineList    thread ÿ Token м д.<br>
+	 * м Token pass1  ū ̺ ߰Ǹ, ּҰ ׶ ȴ.
+	 * 
+	 * @param threads
+	 *            : м  thread 
+	 */
+	private void lexInput(int threads)
+	{
+		//  Է 鼭 ̹ м 
+		if (lexedTokens != null)
+			return;
+
+		lexedTokens = ParallelLexer.tokenize(lineList, instTable, threads, !compactTokens, parseCacheEnabled);
+	}
+
 	/**
 	 * ǿڷ    ּҰ Ѵ
 	 * 
 	 * @param inputOperand:  ǿ
 	 * @return:  ּҰ
 	 */
-	private int operateAddress(String inputOperand)
+	int operateAddress(String inputOperand)
 	{
 		// result:   ּҰ
 		// operands: ǿ  ڸ   ɺ
@@ -562,9 +2864,39 @@ public class Assembler
 				result = symtabList.get(programNumber).search(operands[0])
 						- symtabList.get(programNumber).search(operands[1]);
 			}
+			// ǿڰ ڷθ ̷ (include    )
+			// ش  ״ ּҰ 
+			else if (TokenTable.isDecimal(inputOperand))
+			{
+				result = Integer.parseInt(inputOperand);
+			}
 		}
 		
 		// ּҰ ȯ
 		return result;
 	}
 }
+
+/**
+ * pipeline 忡 pass1 pass2 worker Ѱִ ϼ  ϳ ̺.
+ */
+class Section
+{
+	/**  ̻ Ѱ   Ÿ ǥ */
+	static final Section END = new Section(-1, null, null, null, null);
+
+	int index;  //  ȣ
+	TokenTable tokenTable;  // ū ̺
+	SymbolTable symTab;  // ɺ ̺
+	SymbolTable litTab;  // ͷ ̺
+	SymbolTable modifTab;  // modification  ̺
+
+	public Section(int index, TokenTable tokenTable, SymbolTable symTab, SymbolTable litTab, SymbolTable modifTab)
+	{
+		this.index = index;
+		this.tokenTable = tokenTable;
+		this.symTab = symTab;
+		this.litTab = litTab;
+		this.modifTab = modifTab;
+	}
+}
@@ -0,0 +1,762 @@
+import java.io.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Է  б pass1, pass2,     ü  ݺ Ͽ ó ϴ Ŭ. <br>
+ * warmup    ึ ɸ ð, ʴ ó   MB, GC Ƚ ð, Ҵ緮 ϰ   Ѵ.
+ * <br>
+ * Ҵ緮 HotSpot JVM thread Ҵ 踦 ϸ,   thread Ҵ 縸 Եȴ.
+ */
+public class AssemblerBenchmark
+{
+	//   Է ϰ   , Ʈ ũ
+	String corpusFile;
+	int corpusLines;
+	long corpusBytes;
+	// Է BYTE, WORD þ   Ʈ . 0̸  ó  
+	long dataBytes;
+
+	/** runDataEncoding ȯ   ʴ ڵ ŵ ʵ     */
+	static long encodedLength;
+	/** runPooled sink  ڵ  . ڵ尡  ʴ ڵ ŵ ʵ  */
+	static long recordLength;
+
+	/**
+	 * Է    ũ⸦ Ѵ.
+	 * 
+	 * @param corpusFile:   Է  ̸
+	 * @throws IOException:     
+	 */
+	public AssemblerBenchmark(String corpusFile) throws IOException
+	{
+		this.corpusFile = corpusFile;
+		corpusBytes = new File(corpusFile).length();
+
+		BufferedReader reader = new BufferedReader(new FileReader(corpusFile));
+		while (reader.readLine() != null)
+			corpusLines++;
+		reader.close();
+	}
+
+	/**
+	 * Է Ͽ BYTE, WORD þ ε мϿ  Ʈ  Ѵ.  run  ó Ѵ.
+	 * 
+	 * @param instTable:  м  instruction table
+	 * @return: BYTE þ 
+	 * @throws IOException:     
+	 */
+	public List<String> scanData(InstTable instTable) throws IOException
+	{
+		List<String> constants = new ArrayList<>();
+		BufferedReader reader = new BufferedReader(new FileReader(corpusFile));
+		String line;
+
+		dataBytes = 0;
+		while ((line = reader.readLine()) != null)
+		{
+			if (!line.contains("BYTE") && !line.contains("WORD"))
+				continue;
+
+			Token token = new Token(line, instTable);
+			if ("BYTE".equals(token.operator) || "WORD".equals(token.operator))
+				dataBytes += token.byteSize;
+			if ("BYTE".equals(token.operator))
+				constants.add(token.operand[0]);
+		}
+		reader.close();
+
+		return constants;
+	}
+
+	/**
+	 *   ̷  Է  .<br>
+	 *   ܺ , ּ, ̺  ɾ, 4 ɾ, ͷ Ѵ.
+	 * 
+	 * @param fileName:   ̸
+	 * @param sections:  
+	 * @param linesPerSection: Ǻ ɾ   (8  )
+	 * @throws IOException:     
+	 */
+	public static void generateCorpus(String fileName, int sections, int linesPerSection) throws IOException
+	{
+		BufferedWriter writer = new BufferedWriter(new FileWriter(fileName));
+
+		for (int s = 0; s < sections; s++)
+		{
+			writeLine(writer, String.format("S%05d\t%s\t0", s, s == 0 ? "START" : "CSECT"));
+			writeLine(writer, "\tEXTREF\tXBUF");
+			writeLine(writer, ".\tsection body");
+
+			for (int k = 0; k < linesPerSection / 8; k++)
+			{
+				String label = String.format("L%04d", k);
+				writeLine(writer, label + "\tLDA\t#3\tload");
+				writeLine(writer, "\tSTA\tBUF");
+				writeLine(writer, "\tCLEAR\tX");
+				writeLine(writer, "\tCOMPR\tA,S");
+				writeLine(writer, "\t+STCH\tXBUF,X");
+				writeLine(writer, "\tJEQ\t" + label);
+				writeLine(writer, "\tLDA\tBUF");
+				writeLine(writer, "\tRSUB\t\treturn");
+			}
+
+			writeLine(writer, "BUF\tRESW\t1");
+			writeLine(writer, "LIT\tLDA\t=C'EOF'");
+			writeLine(writer, s < sections - 1 ? "\tLTORG" : "\tEND\tL0000");
+		}
+
+		writer.close();
+	}
+
+	/**
+	 * BYTE, WORD  ̺ ַ ̷  Է  .<br>
+	 *   4θ 64Ʈ ڿ(C'...'), 64Ʈ 16 (X'...'), ܺ ɺ  16 迭
+	 * ̺ д ɾ ϳ Ѵ.
+	 * 
+	 * @param fileName:   ̸
+	 * @param sections:  
+	 * @param linesPerSection: Ǻ   (4  )
+	 * @throws IOException:     
+	 */
+	public static void generateDataCorpus(String fileName, int sections, int linesPerSection) throws IOException
+	{
+		BufferedWriter writer = new BufferedWriter(new FileWriter(fileName));
+
+		for (int s = 0; s < sections; s++)
+		{
+			writeLine(writer, String.format("S%05d\t%s\t0", s, s == 0 ? "START" : "CSECT"));
+			writeLine(writer, "\tEXTREF\tXBUF");
+
+			for (int k = 0; k < linesPerSection / 4; k++)
+			{
+				// text: 64 ڿ, hex: 64Ʈ 16, words: 16 
+				String label = String.format("D%04d", k);
+				StringBuilder text = new StringBuilder(), hex = new StringBuilder(), words = new StringBuilder("XBUF");
+				while (text.length() < 64)
+					text.append(String.format("ROW %05d SECTION %05d, ", k, s));
+				for (int b = 0; b < 64; b++)
+					hex.append(String.format("%02X", (k * 64 + b) & 0xFF));
+				for (int w = 1; w < 16; w++)
+					words.append(',').append(k * 16 + w);
+
+				writeLine(writer, label + "\tBYTE\tC'" + text.substring(0, 64) + "'");
+				writeLine(writer, "\tBYTE\tX'" + hex + "'");
+				writeLine(writer, "\tWORD\t" + words);
+				writeLine(writer, "\t+LDA\t" + label);
+			}
+
+			writeLine(writer, s < sections - 1 ? "\tLTORG" : "\tEND\tD0000");
+		}
+
+		writer.close();
+	}
+
+	/**
+	 * BYTE  object code ȯϴ ð table  ȯ ڸ String.format ϴ ȯ 
+	 * Ͽ ʴ   MB Ѵ.
+	 * 
+	 * @param constants: C'...' Ǵ X'...'  
+	 * @param warmup:  ʰ  Ƚ
+	 * @param runs:  Ƚ
+	 */
+	public static void runDataEncoding(List<String> constants, int warmup, int runs)
+	{
+		// bytes:   Ʈ 
+		// checksum: ȯ   ʵ  ̸  
+		long bytes = 0, checksum = 0;
+		for (String constant : constants)
+			bytes += TokenTable.constantSize(constant);
+
+		for (int i = 0; i < warmup; i++)
+			for (String constant : constants)
+				checksum += TokenTable.encodeConstant(constant).length() + formatConstant(constant).length();
+
+		long startTime = System.nanoTime();
+		for (int i = 0; i < runs; i++)
+			for (String constant : constants)
+				checksum += TokenTable.encodeConstant(constant).length();
+		double tableTime = System.nanoTime() - startTime;
+
+		startTime = System.nanoTime();
+		for (int i = 0; i < runs; i++)
+			for (String constant : constants)
+				checksum += formatConstant(constant).length();
+		double formatTime = System.nanoTime() - startTime;
+
+		System.out.println(String.format("data encoding: %d constants, %d bytes x %d runs, table %.1f MB/s, String.format %.1f MB/s",
+				constants.size(), bytes, runs, bytes * runs / (tableTime / 1e9) / (1024 * 1024),
+				bytes * runs / (formatTime / 1e9) / (1024 * 1024)));
+		encodedLength = checksum;
+	}
+
+	/**
+	 *  ڸ String.format 16 ٲٴ   ȯ. runDataEncoding  ̴.
+	 */
+	private static String formatConstant(String constant)
+	{
+		if (constant.startsWith("X"))
+			return constant.replaceAll("X|\'", "");
+
+		StringBuilder hex = new StringBuilder();
+		String data = constant.replaceAll("C|\'", "");
+		for (int i = 0; i < data.length(); i++)
+			hex.append(String.format("%02X", (int) data.charAt(i)));
+		return hex.toString();
+	}
+
+	/**
+	 *   warmup Ƚŭ    Ƚŭ ϸ  Ѵ.
+	 * 
+	 * @param assembly: Է  б       ϴ Լ
+	 * @param warmup:  ʰ  Ƚ
+	 * @param runs:  Ƚ
+	 */
+	public void run(Runnable assembly, int warmup, int runs)
+	{
+		System.out.println(String.format("corpus: %s, %d lines, %d bytes", corpusFile, corpusLines, corpusBytes));
+
+		for (int i = 1; i <= warmup; i++)
+			measure(assembly, "warmup " + i);
+
+		//   հ: ð(nano second), GC Ƚ, GC ð(ms), Ҵ緮(byte)
+		long totalTime = 0, totalCollections = 0, totalCollectionTime = 0, totalAllocated = 0;
+		long bestTime = Long.MAX_VALUE;
+		for (int i = 1; i <= runs; i++)
+		{
+			long[] result = measure(assembly, "run " + i);
+			totalTime += result[0];
+			totalCollections += result[1];
+			totalCollectionTime += result[2];
+			totalAllocated += result[3];
+			bestTime = Math.min(bestTime, result[0]);
+		}
+
+		if (runs == 0)
+			return;
+
+		double seconds = totalTime / 1e9;
+		System.out.println(String.format(
+				"benchmark: %d runs, best %.1f ms, mean %.1f ms, %.0f lines/s, %.1f MB/s, %.1f GC/run (%.1f ms), %.1f MB/s allocated",
+				runs, bestTime / 1e6, totalTime / 1e6 / runs, (double) corpusLines * runs / seconds,
+				corpusBytes * runs / seconds / (1024 * 1024), (double) totalCollections / runs,
+				(double) totalCollectionTime / runs, totalAllocated / seconds / (1024 * 1024)));
+
+		//  þ ִٸ Ʈ α׷    ó 
+		if (dataBytes > 0)
+			System.out.println(String.format("data: %d bytes per run, %.1f MB/s emitted (best %.1f MB/s)",
+					dataBytes, dataBytes * runs / seconds / (1024 * 1024), dataBytes / (bestTime / 1e9) / (1024 * 1024)));
+	}
+
+	/**
+	 * ū Ǵ  ܰ(: object code ) ݺ Ͽ ū ϳ ɸ ð Ҵ緮 Ѵ.<br>
+	 * warmup       Ѵ.
+	 * 
+	 * @param name:  ܰ ̸
+	 * @param tokens:     óϴ ū 
+	 * @param pass:  ū  ش ܰ踦   ϴ Լ
+	 * @param warmup:  ʰ  Ƚ
+	 * @param runs:  Ƚ
+	 */
+	public static void runPerToken(String name, long tokens, Runnable pass, int warmup, int runs)
+	{
+		for (int i = 0; i < warmup; i++)
+			pass.run();
+
+		long allocated = getAllocatedBytes();
+		long startTime = System.nanoTime();
+
+		for (int i = 0; i < runs; i++)
+			pass.run();
+
+		double elapsed = System.nanoTime() - startTime;
+		allocated = getAllocatedBytes() - allocated;
+
+		System.out.println(String.format("%s: %d tokens x %d runs, %.1f ns/token, %.1f bytes/token allocated",
+				name, tokens, runs, elapsed / tokens / runs, (double) allocated / tokens / runs));
+	}
+
+	/**
+	 * section symbol table  ּҿ  floor ˻, table ó  캸   ϴ   Ͽ ð Ͽ Ѵ.
+	 * 
+	 * @param tables: section symbol table
+	 * @param queries: section ˻ Ƚ
+	 */
+	public static void runAddressLookup(List<SymbolTable> tables, int queries)
+	{
+		//  ˻ ּҸ ϱ  seed 
+		// section  ū ɺ ּұ  ˻ ּҸ 
+		int[][] addresses = new int[tables.size()][queries];
+		Random random = new Random(0);
+		for (int i = 0; i < tables.size(); i++)
+		{
+			int max = 1;
+			for (int j = 0; j < tables.get(i).getSize(); j++)
+				max = Math.max(max, tables.get(i).getLocation(j) + 1);
+			for (int q = 0; q < queries; q++)
+				addresses[i][q] = random.nextInt(max);
+		}
+
+		//  ˻: ּ  ɺ   ū ּҸ  ɺ
+		long startTime = System.nanoTime();
+		long scanChecksum = 0;
+		for (int i = 0; i < tables.size(); i++)
+		{
+			SymbolTable table = tables.get(i);
+			for (int q = 0; q < queries; q++)
+			{
+				int best = -1;
+				for (int j = 0; j < table.getSize(); j++)
+					if (table.getLocation(j) <= addresses[i][q] && (best < 0 || table.getLocation(j) > table.getLocation(best)))
+						best = j;
+				scanChecksum += best;
+			}
+		}
+		double scanTime = (System.nanoTime() - startTime) / 1e6;
+
+		//  ˻ (     ð )
+		startTime = System.nanoTime();
+		long indexChecksum = 0;
+		for (int i = 0; i < tables.size(); i++)
+		{
+			AddressIndex index = tables.get(i).getAddressIndex();
+			for (int q = 0; q < queries; q++)
+				indexChecksum += index.floor(addresses[i][q]);
+		}
+		double indexTime = (System.nanoTime() - startTime) / 1e6;
+
+		System.out.println(String.format("address lookup: %d queries, scan %.1f ms, index %.1f ms%s",
+				(long) queries * tables.size(), scanTime, indexTime, scanChecksum == indexChecksum ? "" : " (MISMATCH)"));
+	}
+
+	/**
+	 * ؽƮ symtab  ĽϿ  ˻ϴ    ˻ϴ  ˻ ð Ͽ Ѵ.<br>
+	 * ؽƮ Ͽ ִ  ɺ     ã´.
+	 * 
+	 * @param textFile: printSymbolTable   ̸
+	 * @param binaryFile: SymbolTableFile.write   ̸
+	 * @throws IOException:     
+	 */
+	public static void runSymbolLookup(String textFile, String binaryFile) throws IOException
+	{
+		// ؽƮ  о    section   
+		long startTime = System.nanoTime();
+		List<List<String>> sections = new ArrayList<>();
+		List<String> current = new ArrayList<>();
+		BufferedReader bufReader = CompressedFiles.openReader(textFile);
+		String line;
+		while ((line = bufReader.readLine()) != null)
+		{
+			if (line.isEmpty())
+			{
+				sections.add(current);
+				current = new ArrayList<>();
+			}
+			else
+				current.add(line);
+		}
+		bufReader.close();
+		double parseTime = (System.nanoTime() - startTime) / 1e6;
+
+		// ã ɺ
+		List<String> queries = new ArrayList<>();
+		List<Integer> querySections = new ArrayList<>();
+		for (int i = 0; i < sections.size(); i++)
+			for (String entry : sections.get(i))
+			{
+				queries.add(entry.substring(0, entry.indexOf('\t')));
+				querySections.add(i);
+			}
+
+		// ؽƮ: section ε ʷ  
+		startTime = System.nanoTime();
+		long checksum = 0;
+		for (int q = 0; q < queries.size(); q++)
+		{
+			for (String entry : sections.get(querySections.get(q)))
+			{
+				int tab = entry.indexOf('\t');
+				if (entry.regionMatches(0, queries.get(q), 0, tab) && tab == queries.get(q).length())
+				{
+					checksum += Integer.parseInt(entry.substring(tab + 1), 16);
+					break;
+				}
+			}
+		}
+		double textTime = (System.nanoTime() - startTime) / 1e6;
+
+		// :  Ͽ ؽ  ˻
+		startTime = System.nanoTime();
+		SymbolTableFile file = new SymbolTableFile(binaryFile);
+		double openTime = (System.nanoTime() - startTime) / 1e6;
+		startTime = System.nanoTime();
+		long binaryChecksum = 0;
+		for (int q = 0; q < queries.size(); q++)
+			binaryChecksum += file.lookup(querySections.get(q), queries.get(q));
+		double binaryTime = (System.nanoTime() - startTime) / 1e6;
+
+		System.out.println(String.format("symbol lookup: %d queries, text parse %.1f ms + scan %.1f ms, binary open %.1f ms + lookup %.1f ms%s",
+				queries.size(), parseTime, textTime, openTime, binaryTime, checksum == binaryChecksum ? "" : " (MISMATCH)"));
+	}
+
+	/**
+	 * ޸𸮿 о Է Ź  Assembler ϴ  AssemblerPool  Assembler ϴ 츦
+	 * Ͽ  ϳ ɸ ð Ҵ緮 Ѵ.<br>
+	 *    ȣ thread pass1, pass2 ϰ ڵ ̸   Ƿ, Ҵ緮  б
+	 * Ⱑ Ե ʰ ڵ ڿ Եȴ.
+	 * 
+	 * @param instFile: instruction  ۼ  ̸
+	 * @param lines:  ҽ ڵ ε
+	 * @param warmup:  ʰ  Ƚ
+	 * @param runs:  Ƚ
+	 */
+	public static void runPooled(String instFile, List<String> lines, int warmup, int runs)
+	{
+		final AssemblerPool pool = new AssemblerPool(instFile, 1);
+
+		for (int pooled = 0; pooled < 2; pooled++)
+		{
+			for (int i = 0; i < warmup; i++)
+				assembleOnce(instFile, pooled == 1 ? pool : null, lines);
+
+			long allocated = getAllocatedBytes();
+			long startTime = System.nanoTime();
+
+			for (int i = 0; i < runs; i++)
+				assembleOnce(instFile, pooled == 1 ? pool : null, lines);
+
+			double elapsed = System.nanoTime() - startTime;
+			allocated = getAllocatedBytes() - allocated;
+
+			System.out.println(String.format("%s: %d lines x %d runs, %.1f ns/line, %.1f bytes/line allocated",
+					pooled == 1 ? "pooled assembler" : "new assembler", lines.size(), runs,
+					elapsed / lines.size() / runs, (double) allocated / lines.size() / runs));
+		}
+	}
+
+	/**
+	 * ε   Ѵ. runPooled Ѵ.
+	 * 
+	 * @param instFile:  Assembler    instruction   ̸
+	 * @param pool: Assembler  pool. null̸  Assembler 
+	 * @param lines:  ҽ ڵ ε
+	 */
+	private static void assembleOnce(String instFile, AssemblerPool pool, List<String> lines)
+	{
+		RecordSink sink = new RecordSink()
+		{
+			public void accept(String record)
+			{
+				recordLength += record.length();
+			}
+
+			public void close()
+			{
+			}
+		};
+
+		try
+		{
+			if (pool != null)
+				pool.assemble(lines, sink);
+			else
+			{
+				Assembler assembler = new Assembler(instFile);
+				assembler.loadInput(lines);
+				assembler.assemble(sink, false);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * ҽ ڵ ε ϳ ġ鼭 IncrementalAssembler ϴ  ɸ ð ó ĺ ϰ, ü
+	 * ٽ ϴ  ɸ ð Ѵ.<br>
+	 *   seed   ũⰡ  ɾ ٲٰų(PATCHED), 4 ٲٰų(SHIFTED), ͷ
+	 * ϴ ɾ ٲٸ(SECTION), ̹ ٲ   ǵ.   ģ ε  Assembler 
+	 *  ڵ  ȮѴ.
+	 * 
+	 * @param instFile: instruction  ۼ  ̸
+	 * @param lines:  ҽ ڵ ε
+	 * @param edits: ĥ  
+	 * @throws IOException: ٽ      
+	 */
+	public static void runIncremental(String instFile, List<String> lines, int edits) throws IOException
+	{
+		// rewrites:  ٲ   
+		String[][] rewrites = { { "\tSTA\tBUF", "\tSTX\tBUF" }, { "\tLDA\tBUF", "\t+LDA\tBUF" },
+				{ "\tCLEAR\tX", "\tLDA\t=C'EOF'" } };
+		String[] kinds = { "patched", "shifted", "section", "program" };
+
+		long startTime = System.nanoTime();
+		IncrementalAssembler incremental = new IncrementalAssembler(new InstTable(instFile), lines);
+		long initialTime = System.nanoTime() - startTime;
+
+		// count, total, worst: ó ĺ Ƚ, ɸ ð հ ִ ð (nano second)
+		// reencoded, rewritten: ٽ  object code ٽ  ڵ  
+		long[] count = new long[kinds.length], total = new long[kinds.length], worst = new long[kinds.length];
+		long reencoded = 0, rewritten = 0;
+		Random random = new Random(1);
+
+		// candidates: ĥ  ִ  ȣ. ٲ ε ٽ ǵ  Ƿ ġ  
+		List<Integer> candidates = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++)
+			for (String[] rewrite : rewrites)
+				if (lines.get(i).equals(rewrite[0]))
+					candidates.add(i + 1);
+		if (candidates.isEmpty())
+		{
+			System.out.println("incremental: no line to edit in the input");
+			return;
+		}
+
+		for (int e = 0; e < edits; e++)
+		{
+			int line = candidates.get(random.nextInt(candidates.size()));
+			String text = incremental.getLines().get(line - 1);
+			String replacement = null;
+			for (String[] rewrite : rewrites)
+			{
+				if (text.equals(rewrite[0]))
+					replacement = rewrite[1];
+				else if (text.equals(rewrite[1]))
+					replacement = rewrite[0];
+			}
+
+			long editStart = System.nanoTime();
+			int kind = incremental.replaceLine(line, replacement);
+			long elapsed = System.nanoTime() - editStart;
+
+			count[kind]++;
+			total[kind] += elapsed;
+			worst[kind] = Math.max(worst[kind], elapsed);
+			reencoded += incremental.getReencodedCount();
+			rewritten += incremental.getRewrittenCount();
+		}
+
+		// ģ ε ó 
+		startTime = System.nanoTime();
+		Assembler assembler = new Assembler(instFile);
+		RecordSink.MemorySink sink = new RecordSink.MemorySink();
+		assembler.loadInput(incremental.getLines());
+		assembler.assemble(sink, false);
+		long fullTime = System.nanoTime() - startTime;
+
+		RecordSink.MemorySink records = new RecordSink.MemorySink();
+		incremental.writeRecords(records);
+		boolean matched = records.getRecords().equals(sink.getRecords());
+
+		System.out.println(String.format("incremental: %d lines, %d sections, initial assembly %.1f ms, full reassembly %.1f ms",
+				lines.size(), incremental.getSectionCount(), initialTime / 1e6, fullTime / 1e6));
+		for (int k = 0; k < kinds.length; k++)
+			if (count[k] > 0)
+				System.out.println(String.format("%s: %d edits, mean %.1f us, max %.1f us", kinds[k], count[k],
+						total[k] / 1e3 / count[k], worst[k] / 1e3));
+		System.out.println(String.format("%d edits, %.1f tokens re-encoded and %.1f records rewritten per edit", edits,
+				(double) reencoded / edits, (double) rewritten / edits));
+		System.out.println(matched ? "records match a full reassembly" : "records DIFFER from a full reassembly");
+	}
+
+	/**
+	 *  Է ϴ JVM μ ݺ Ͽ    ϼǾ μ   ð
+	 *   Ѵ.<br>
+	 *  Է¿  JVM , class б  κ ð ϹǷ, ⺻  ª ࿡  JIT,
+	 * GC , class data sharing(AppCDS) archive ϴ  Ѵ.   Ͽ   ý
+	 *  ȭ   ϸ,      Ѵ. <br>
+	 * μ  JVM java  ϰ class path ӽ 丮 Ѵ. archive  class path 
+	 * ̾ Ѵ.
+	 * 
+	 * @param inputFile:  Է .  丮 inst.data Բ ӽ 丮 Ѵ
+	 * @param archiveFile: class data sharing archive . null̸ archive ϴ   
+	 * @param runs:   Ƚ
+	 * @throws IOException:    ų μ  
+	 */
+	public static void runStartup(String inputFile, String archiveFile, int runs) throws IOException
+	{
+		// names, options:  ̸ java Ѱ ɼ
+		List<String> names = new ArrayList<>();
+		List<String[]> options = new ArrayList<>();
+		String[] shortRun = { "-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC" };
+		names.add("default");
+		options.add(new String[0]);
+		names.add("c1+serial");
+		options.add(shortRun);
+		if (archiveFile != null)
+		{
+			String[] archive = { "-XX:SharedArchiveFile=" + new File(archiveFile).getAbsolutePath(), "-Xshare:auto" };
+			names.add("cds");
+			options.add(archive);
+			names.add("cds+c1+serial");
+			options.add(new String[] { archive[0], archive[1], shortRun[0], shortRun[1] });
+		}
+
+		File directory = Files.createTempDirectory("sicxe-startup").toFile();
+		try
+		{
+			Files.copy(new File("inst.data").toPath(), new File(directory, "inst.data").toPath());
+			Files.copy(new File(inputFile).toPath(), new File(directory, "input.txt").toPath());
+			System.out.println(String.format("startup: %s, %d bytes, %d runs per configuration", inputFile,
+					new File(inputFile).length(), runs));
+
+			// times:    ɸ ð (nano second). i -1   ʴ 
+			long[][] times = new long[names.size()][runs];
+			for (int i = -1; i < runs; i++)
+				for (int v = 0; v < names.size(); v++)
+				{
+					long time = launch(directory, options.get(v));
+					if (i >= 0)
+						times[v][i] = time;
+				}
+
+			for (int v = 0; v < names.size() && runs > 0; v++)
+			{
+				Arrays.sort(times[v]);
+				long total = 0;
+				for (long time : times[v])
+					total += time;
+
+				System.out.println(String.format("%s: median %.1f ms, best %.1f ms, mean %.1f ms to output", names.get(v),
+						times[v][runs / 2] / 1e6, times[v][0] / 1e6, total / 1e6 / runs));
+			}
+		}
+		finally
+		{
+			for (File file : directory.listFiles())
+				file.delete();
+			directory.delete();
+		}
+	}
+
+	/**
+	 * ӽ 丮  μ   ϰ   ٸ. runStartup Ѵ.
+	 * 
+	 * @param directory: inst.data input.txt ִ 丮
+	 * @param options: java Ѱ ɼ
+	 * @return: μ    ɸ ð (nano second)
+	 * @throws IOException: μ   ų, Ͽų     
+	 */
+	private static long launch(File directory, String[] options) throws IOException
+	{
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.addAll(Arrays.asList(options));
+
+		// ӽ 丮 ϹǷ class path  η ٲ
+		StringBuilder classPath = new StringBuilder();
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator))
+		{
+			if (classPath.length() > 0)
+				classPath.append(File.pathSeparator);
+			classPath.append(new File(entry).getAbsolutePath());
+		}
+		command.add("-cp");
+		command.add(classPath.toString());
+		command.add("Assembler");
+
+		File output = new File(directory, "output_20160286");
+		output.delete();
+
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.directory(directory);
+		builder.redirectErrorStream(true);
+		builder.redirectOutput(new File(directory, "console.txt"));
+
+		long startTime = System.nanoTime();
+		int exitCode;
+		try
+		{
+			exitCode = builder.start().waitFor();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for the assembler");
+		}
+		long elapsed = System.nanoTime() - startTime;
+
+		if (exitCode != 0 || output.length() == 0)
+			throw new IOException("assembler exited with " + exitCode + " without output");
+
+		return elapsed;
+	}
+
+	/**
+	 *     ϰ   ٷ Ѵ.
+	 * 
+	 * @param assembly:  ϴ Լ
+	 * @param name:   ̸
+	 * @return: { ɸ ð(nano second), GC Ƚ, GC ð(ms), Ҵ緮(byte).    0 }
+	 */
+	private long[] measure(Runnable assembly, String name)
+	{
+		long collections = getCollectionCount(), collectionTime = getCollectionTime();
+		long allocated = getAllocatedBytes();
+		long startTime = System.nanoTime();
+
+		assembly.run();
+
+		long[] result = new long[4];
+		result[0] = System.nanoTime() - startTime;
+		result[1] = getCollectionCount() - collections;
+		result[2] = getCollectionTime() - collectionTime;
+		result[3] = getAllocatedBytes() - allocated;
+
+		double seconds = result[0] / 1e9;
+		System.out.println(String.format("%s: %.1f ms, %.0f lines/s, %.1f MB/s, %d GC (%d ms), %.1f MB allocated (%.1f MB/s)",
+				name, result[0] / 1e6, corpusLines / seconds, corpusBytes / seconds / (1024 * 1024), result[1], result[2],
+				result[3] / (1024.0 * 1024), result[3] / seconds / (1024 * 1024)));
+
+		return result;
+	}
+
+	/**
+	 *  garbage collector  Ƚ  Ѵ.
+	 */
+	private static long getCollectionCount()
+	{
+		long count = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans())
+			count += Math.max(collector.getCollectionCount(), 0);
+		return count;
+	}
+
+	/**
+	 *  garbage collector  ð  Ѵ. (ms)
+	 */
+	private static long getCollectionTime()
+	{
+		long time = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans())
+			time += Math.max(collector.getCollectionTime(), 0);
+		return time;
+	}
+
+	/**
+	 *  thread ݱ Ҵ Ʈ  Ѵ. JVM   0 Ѵ.
+	 */
+	private static long getAllocatedBytes()
+	{
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean)
+			return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+		return 0;
+	}
+
+	/**
+	 *     ٲ۴.
+	 */
+	private static void writeLine(BufferedWriter writer, String line) throws IOException
+	{
+		writer.write(line);
+		writer.newLine();
+	}
+}
@@ -0,0 +1,111 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  thread ÿ   û ٽ ϴ Assembler ü óϴ pool. <br>
+ * û  ִ Assembler    resetϿ Ƿ, Ǻ ̺, Token ü, Ʈ ڵ
+ * buffer û  Ҵ ʴ´. Assembler ʿ   ִ   ȯ  ٸ. <br>
+ *  Assembler ϳ instruction table Բ Ѵ.
+ * <br>
+ * <br>
+ *   : <br>
+ * AssemblerPool pool = new AssemblerPool("inst.data", 4); <br>
+ * pool.assemble(lines, new RecordSink.MemorySink());
+ */
+public class AssemblerPool
+{
+	//  Assembler Բ ϴ instruction table
+	InstTable instTable;
+	//  ִ Assembler
+	BlockingQueue<Assembler> idle = new LinkedBlockingQueue<>();
+	//   ִ Assembler ִ  ݱ  
+	int maxSize;
+	AtomicInteger created = new AtomicInteger();
+
+	/**
+	 * instruction table а  pool .
+	 *
+	 * @param instFile: instruction  ۼ  ̸
+	 * @param maxSize: ÿ   ִ Assembler ִ 
+	 */
+	public AssemblerPool(String instFile, int maxSize)
+	{
+		instTable = new InstTable(instFile);
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 *  ִ Assembler . ٸ ִ   ,  Ŀ ȯ  ٸ.
+	 *
+	 * @return: Է ִ Assembler.   ڿ release ƾ Ѵ
+	 * @throws InterruptedException: ٸ  ߴܵ 
+	 */
+	public Assembler acquire() throws InterruptedException
+	{
+		Assembler assembler = idle.poll();
+		if (assembler != null)
+			return assembler;
+
+		if (created.incrementAndGet() <= maxSize)
+			return new Assembler(instTable);
+		created.decrementAndGet();
+
+		return idle.take();
+	}
+
+	/**
+	 *  Assembler resetϿ ´.
+	 *
+	 * @param assembler: acquire  Assembler
+	 */
+	public void release(Assembler assembler)
+	{
+		assembler.reset();
+		idle.offer(assembler);
+	}
+
+	/**
+	 * Assembler ϳ  ҽ ڵ ε ϰ ڵ sink Ѱش. pass1 pass2 ȣ thread
+	 * ϸ, sink   ݴ´.
+	 *
+	 * @param lines: ҽ ڵ ε
+	 * @param sink: ڵ带  
+	 * @throws IOException: sink   ų Assembler ٸ  ߴܵ 
+	 */
+	public void assemble(List<String> lines, RecordSink sink) throws IOException
+	{
+		Assembler assembler;
+		try
+		{
+			assembler = acquire();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			sink.close();
+			throw new InterruptedIOException("interrupted while waiting for an assembler");
+		}
+
+		try
+		{
+			assembler.loadInput(lines);
+			assembler.assemble(sink, false);
+		}
+		finally
+		{
+			release(assembler);
+		}
+	}
+
+	/**
+	 * ݱ  Assembler  Ѵ.
+	 */
+	public int getCreatedCount()
+	{
+		return created.get();
+	}
+}
@@ -0,0 +1,243 @@
+import java.io.*;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip  Է,   ӽ Ϸ Ǯ ʰ ٷ а   stream  Ŭ. <br>
+ * Է  ó  Ʈ gzip  magic number  θ ǴϹǷ  ̸    ְ,
+ *   ̸ ".gz"  쿡 Ѵ. <br>
+ *  Է  thread Ǯ  ũ chunk ѰֹǷ, д ʿ   Token мϴ
+ *   κ  Ǯ  ִ.
+ */
+public class CompressedFiles
+{
+	/**    ̸ Ȯ */
+	static final String SUFFIX = ".gz";
+	/**  б, ⿡ ϴ buffer ũ */
+	static final int BUFFER_SIZE = 1 << 20;
+	/**  Ǫ thread   Ѱִ chunk ũ */
+	static final int CHUNK_SIZE = 1 << 18;
+	/** д ʺ ռ Ǯ  ִ chunk  */
+	static final int CHUNK_QUEUE = 8;
+
+	/**
+	 *  gzip  Ǿ ִ ȮѴ.
+	 *
+	 * @param fileName: Ȯ  ̸
+	 * @return: ó  Ʈ gzip magic number(1F 8B) true
+	 * @throws IOException:     
+	 */
+	public static boolean isCompressed(String fileName) throws IOException
+	{
+		InputStream in = new FileInputStream(fileName);
+		try
+		{
+			return in.read() == 0x1F && in.read() == 0x8B;
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+
+	/**
+	 * ؽƮ  д reader .  ̶  thread  Ǯ鼭 д´.
+	 *
+	 * @param fileName:   ̸
+	 * @return:     ִ reader
+	 * @throws IOException:     
+	 */
+	public static BufferedReader openReader(String fileName) throws IOException
+	{
+		InputStream in = isCompressed(fileName) ? new InflatingInputStream(fileName) : new FileInputStream(fileName);
+		return new BufferedReader(new InputStreamReader(in), BUFFER_SIZE);
+	}
+
+	/**
+	 * Ͽ  stream . ̸ ".gz"  gzip  Ͽ . ̹ ִ  .
+	 *
+	 * @param fileName:   ̸
+	 * @return: buffer ϴ stream. close  
+	 * @throws IOException:     
+	 */
+	public static OutputStream openOutputStream(String fileName) throws IOException
+	{
+		OutputStream out = new FileOutputStream(fileName);
+		if (fileName.endsWith(SUFFIX))
+			out = new GZIPOutputStream(out, BUFFER_SIZE);
+		return new BufferedOutputStream(out, BUFFER_SIZE);
+	}
+
+	/**
+	 * ؽƮ Ͽ  writer . ̸ ".gz"  gzip  Ͽ .
+	 *
+	 * @param fileName:   ̸
+	 * @return:     ִ writer
+	 * @throws IOException:     
+	 */
+	public static BufferedWriter openWriter(String fileName) throws IOException
+	{
+		return new BufferedWriter(new OutputStreamWriter(openOutputStream(fileName)), BUFFER_SIZE);
+	}
+
+	/**
+	 *  thread gzip   Ǯ chunk  Ѱܹ޴ stream. <br>
+	 *  Ǫ thread ִ CHUNK_QUEUE chunkŭ ռ Ǯθ,   chunk 迭 ٽ Ѵ.
+	 */
+	static class InflatingInputStream extends InputStream
+	{
+		/**   Ǯų Ͽ ˸ chunk */
+		private static final byte[] END = new byte[0];
+
+		// chunks: Ǯ chunk.  chunk ª chunk ̿ ° Ͽ Ѱ
+		// spares:  о ٽ   ִ chunk 迭
+		BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(CHUNK_QUEUE);
+		BlockingQueue<byte[]> spares = new ArrayBlockingQueue<>(CHUNK_QUEUE + 1);
+		Thread inflater;
+		//  Ǫ ߿ ߻ . END Ѱֱ  
+		volatile IOException failure;
+
+		// chunk: а ִ chunk     ġ
+		byte[] chunk = END;
+		int position;
+		// END ޾Ҵ 
+		boolean finished;
+
+		/**
+		 *    Ǫ thread Ѵ.
+		 *
+		 * @param fileName: gzip  ̸
+		 * @throws IOException:    ų gzip  ƴ 
+		 */
+		InflatingInputStream(String fileName) throws IOException
+		{
+			final InputStream in = new GZIPInputStream(new FileInputStream(fileName), BUFFER_SIZE);
+			inflater = new Thread(new Runnable()
+			{
+				public void run()
+				{
+					inflate(in);
+				}
+			}, "gzip-inflater");
+			inflater.setDaemon(true);
+			inflater.start();
+		}
+
+		/**
+		 *  Ǫ thread Ѵ.   Ǯ chunk Ѱ  END Ѱش.
+		 */
+		private void inflate(InputStream in)
+		{
+			try
+			{
+				try
+				{
+					while (true)
+					{
+						byte[] buffer = spares.poll();
+						if (buffer == null)
+							buffer = new byte[CHUNK_SIZE];
+
+						// length: chunk ä Ʈ .   ƴ϶ chunk  ä
+						int length = 0, count = 0;
+						while (length < buffer.length && (count = in.read(buffer, length, buffer.length - length)) > 0)
+							length += count;
+
+						if (length > 0)
+							chunks.put(length == buffer.length ? buffer : Arrays.copyOf(buffer, length));
+						if (length < buffer.length)
+							break;
+					}
+				}
+				finally
+				{
+					in.close();
+				}
+			}
+			catch (IOException e)
+			{
+				failure = e;
+			}
+			catch (InterruptedException e)
+			{
+				// д ʿ stream  
+				return;
+			}
+
+			try
+			{
+				chunks.put(END);
+			}
+			catch (InterruptedException e)
+			{
+			}
+		}
+
+		/**
+		 *  Ʈ  chunk غѴ.
+		 *
+		 * @return:  ̶ false
+		 * @throws IOException:  Ǫ ߿  ߻ 
+		 */
+		private boolean fill() throws IOException
+		{
+			while (!finished && position == chunk.length)
+			{
+				if (chunk.length == CHUNK_SIZE)
+					spares.offer(chunk);
+
+				try
+				{
+					chunk = chunks.take();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("interrupted while waiting for decompressed input");
+				}
+				position = 0;
+
+				if (chunk == END)
+				{
+					finished = true;
+					if (failure != null)
+						throw failure;
+				}
+			}
+
+			return !finished;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			if (!fill())
+				return -1;
+			return chunk[position++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException
+		{
+			if (length == 0)
+				return 0;
+			if (!fill())
+				return -1;
+
+			int count = Math.min(length, chunk.length - position);
+			System.arraycopy(chunk, position, bytes, offset, count);
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close()
+		{
+			finished = true;
+			inflater.interrupt();
+		}
+	}
+}
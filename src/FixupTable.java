@@ -0,0 +1,132 @@
+import java.util.Arrays;
+
+/**
+ *   ϴ (single pass)  ּҸ    ɺ ϴ ɾ ϴ fixup ̺. <br>
+ *  ɺ ϴ fixup ɺ chain ̾ , ɺ ǵǸ chain ɾ object code ٽ
+ * (backpatching). <br>
+ * fixup ū ̺  ġ ó object code   PC, base register  Ѵ. chain 迭 
+ *  fixup ġ ̾, ɺ ̸ chain ó ã  SymbolIndex Ѵ.
+ */
+public class FixupTable
+{
+	// heads: ɺ ̸ chain ù fixup ġ. chain  -1
+	SymbolIndex heads;
+
+	// fixup  chain  fixup ġ( -1), ū ̺  ġ, object code   PC , base register 
+	int[] next;
+	int[] tokenIndexes;
+	int[] programCounters;
+	int[] baseRegisters;
+	//  fixup 
+	int size;
+
+	// ݱ  fixup  ٽ  object code 
+	long recorded, patched;
+
+	/**
+	 *  fixup ̺ .
+	 */
+	public FixupTable()
+	{
+		next = new int[16];
+		tokenIndexes = new int[16];
+		programCounters = new int[16];
+		baseRegisters = new int[16];
+		clear();
+	}
+
+	/**
+	 *  fixup  .    ȣѴ.
+	 */
+	public void clear()
+	{
+		heads = new SymbolIndex();
+		size = 0;
+	}
+
+	/**
+	 * ɺ ϴ ɾ ɺ chain ߰Ѵ.
+	 * 
+	 * @param name:  ɺ ̸
+	 * @param key: SymbolIndex.pack(name) 
+	 * @param tokenIndex: ɾ ū ̺  ġ
+	 * @param programCounter: ɾ object code   PC 
+	 * @param baseRegister: ɾ object code   base register 
+	 */
+	public void add(String name, long key, int tokenIndex, int programCounter, int baseRegister)
+	{
+		if (size == next.length)
+		{
+			next = Arrays.copyOf(next, size * 2);
+			tokenIndexes = Arrays.copyOf(tokenIndexes, size * 2);
+			programCounters = Arrays.copyOf(programCounters, size * 2);
+			baseRegisters = Arrays.copyOf(baseRegisters, size * 2);
+		}
+
+		// chain տ ߰
+		next[size] = heads.get(name, key);
+		tokenIndexes[size] = tokenIndex;
+		programCounters[size] = programCounter;
+		baseRegisters[size] = baseRegister;
+		heads.put(name, size);
+		size++;
+		recorded++;
+	}
+
+	/**
+	 * ǵ ɺ chain ִ ɾ object code ٽ  chain .
+	 * 
+	 * @param name: ǵ ɺ ̸
+	 * @param tokenTable: ɾ ִ ū ̺
+	 */
+	public void resolve(String name, TokenTable tokenTable)
+	{
+		long key = SymbolIndex.pack(name);
+
+		for (int fixup = heads.get(name, key); fixup >= 0; fixup = next[fixup])
+			patch(fixup, tokenTable);
+
+		if (heads.get(name, key) >= 0)
+			heads.put(name, -1);
+	}
+
+	/**
+	 *   fixup object code ٽ . chain  ʴ´.<br>
+	 * ͷó LTORG ּҰ ٲ  ִ 쿡 Ѵ.
+	 * 
+	 * @param tokenTable: ɾ ִ ū ̺
+	 */
+	public void resolveAll(TokenTable tokenTable)
+	{
+		for (int fixup = 0; fixup < size; fixup++)
+			patch(fixup, tokenTable);
+	}
+
+	/**
+	 * ݱ  fixup  Ѵ.
+	 */
+	public long getRecordedCount()
+	{
+		return recorded;
+	}
+
+	/**
+	 * ݱ ٽ  object code  Ѵ.
+	 */
+	public long getPatchedCount()
+	{
+		return patched;
+	}
+
+	/**
+	 * fixup ɾ ó object code   PC, base register  ٽ .
+	 * 
+	 * @param fixup: fixup ġ
+	 * @param tokenTable: ɾ ִ ū ̺
+	 */
+	private void patch(int fixup, TokenTable tokenTable)
+	{
+		tokenTable.remakeObjectCode(tokenIndexes[fixup], programCounters[fixup], baseRegisters[fixup]);
+		patched++;
+	}
+}
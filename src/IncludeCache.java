@@ -0,0 +1,187 @@
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * INCLUDE þ ԵǴ ϵ ̸ Token  мϿ ϴ ĳ. <br>
+ * μ ü ϳ ϸ,  ο  ð ٸ   ٽ аų м ʴ´. <br>
+ *  α׷  ϴ    (EQU , ͷ )   мϰ ȴ. <br>
+ * include   INCLUDE þ   ġ, ģ ϵ  ϳ Ǹ ٽ мѴ.  ̸ ֻ
+ * INCLUDE   ġ  ã´. <br>
+ * <br>
+ * ǻ : include Ͽ START, CSECT  section  þ  ʴ´.
+ */
+public class IncludeCache
+{
+	/**   θ key м  ϴ  */
+	private static final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+	// ĳ    Ƚ
+	private static final AtomicInteger hitCount = new AtomicInteger();
+	private static final AtomicInteger missCount = new AtomicInteger();
+
+	/**
+	 * ڷ  include  м Token  Ѵ. ȿ ִ INCLUDE þ INCLUDE ū ڿ Ե 
+	 * Token ̾ ٿ ģ.<br>
+	 * ĳÿ   ð ģ ϵ   ð ٸ 쿡  ٽ о мѴ.<br>
+	 * ϵǴ Token Ǵ ̹Ƿ TokenTable.putToken(Token) Ͽ Ѵ.
+	 * 
+	 * @param fileName: include  ̸
+	 * @param instTable: Token м  instruction table
+	 * @return: м Token 
+	 * @throws UncheckedIOException: ĥ     
+	 * @throws IllegalArgumentException:  ڽ ٽ ϴ 
+	 */
+	public static List<Token> getTokens(String fileName, InstTable instTable)
+	{
+		return getEntry(new File(fileName), instTable, new ArrayList<String>()).tokens;
+	}
+
+	/**
+	 * include  ģ ĳ ׸ Ѵ. ų ģ     ִٸ ٽ мϿ Ѵ.
+	 * 
+	 * @param file: include 
+	 * @param instTable: Token м  instruction table
+	 * @param including:   ϱ ġ ִ ϵ . ȯ ã  
+	 * @return: ĳ ׸
+	 */
+	private static Entry getEntry(File file, InstTable instTable, ArrayList<String> including)
+	{
+		// key: ĳ key   
+		String key = file.getAbsolutePath();
+		if (including.contains(key))
+			throw new IllegalArgumentException("include cycle: " + String.join(" -> ", including) + " -> " + key);
+
+		//  η м  ְ ģ ϵ  ʾҴٸ ״ 
+		Entry entry = cache.get(key);
+		if (entry != null && entry.isCurrent())
+		{
+			hitCount.incrementAndGet();
+			return entry;
+		}
+
+		//    мϿ ĳÿ 
+		missCount.incrementAndGet();
+		including.add(key);
+		entry = parseFile(file, instTable, including);
+		including.remove(including.size() - 1);
+		cache.put(key, entry);
+
+		return entry;
+	}
+
+	/**
+	 * include  о  پ Token мϰ, INCLUDE þ ִٸ Ե  Token ̾ δ.
+	 * 
+	 * @param file: м 
+	 * @param instTable: Token м  instruction table
+	 * @param including:  ϱ ġ ִ ϵ 
+	 * @return: м Token ϰ ģ ϵ  ð  ĳ ׸
+	 */
+	private static Entry parseFile(File file, InstTable instTable, ArrayList<String> including)
+	{
+		// tokens: м Token 
+		// files, modified: ģ ϵ(  ) м   ð
+		// line: Ͽ о  
+		ArrayList<Token> tokens = new ArrayList<>();
+		ArrayList<File> files = new ArrayList<>();
+		ArrayList<Long> modified = new ArrayList<>();
+		String line;
+
+		files.add(file);
+		modified.add(file.lastModified());
+
+		try
+		{
+			BufferedReader bufReader = new BufferedReader(new FileReader(file));
+
+			try
+			{
+				// о ε Token мϿ 
+				while ((line = bufReader.readLine()) != null)
+				{
+					Token token = new Token(line, instTable);
+					tokens.add(token);
+
+					// Ե    ĳ ׸ ħ
+					if ("INCLUDE".equals(token.operator) && token.operand != null)
+					{
+						Entry included = getEntry(new File(token.operand[0]), instTable, including);
+						tokens.addAll(included.tokens);
+						files.addAll(included.files);
+						modified.addAll(included.modified);
+					}
+				}
+			}
+			finally
+			{
+				bufReader.close();
+			}
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException("cannot open include file " + file.getPath(), e);
+		}
+
+		return new Entry(files, modified, Collections.unmodifiableList(tokens));
+	}
+
+	/**
+	 * ĳ  Ƚ Ѵ.
+	 * 
+	 * @return: ĳ  Ƚ
+	 */
+	public static int getHitCount()
+	{
+		return hitCount.get();
+	}
+
+	/**
+	 * ĳ (  м) Ƚ Ѵ.
+	 * 
+	 * @return: ĳ  Ƚ
+	 */
+	public static int getMissCount()
+	{
+		return missCount.get();
+	}
+
+	/**
+	 * ĳø .
+	 */
+	public static void clear()
+	{
+		cache.clear();
+	}
+
+	/**
+	 * м include  ϳ 
+	 */
+	private static class Entry
+	{
+		List<File> files;  // ģ ϵ ( ϰ Ե ϵ)
+		List<Long> modified;  // м  ϵ  ð
+		List<Token> tokens;  // м Token 
+
+		Entry(List<File> files, List<Long> modified, List<Token> tokens)
+		{
+			this.files = files;
+			this.modified = modified;
+			this.tokens = tokens;
+		}
+
+		/**
+		 * ģ ϵ м ڿ  ʾҴ ȮѴ.
+		 */
+		boolean isCurrent()
+		{
+			for (int i = 0; i < files.size(); i++)
+				if (files.get(i).lastModified() != modified.get(i))
+					return false;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,680 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * ó ҽ ڵ带  ξ ġ鼭 Ʈ α׷ ޸𸮿  ϴ  . <br>
+ * ó ü   Ǻ ū ̺, ɺ ̺ ڵ, ׸ ɺ use-def  ܵΰ, 
+ * ٲ  θ ٽ мϿ ٲ     óѴ. <br>
+ * 1) ũⰡ   ٲ  :  ū object code ٽ , ū ִ Text record ش κи
+ * ģ. (PATCHED) <br>
+ *  Ѵ displacementó object code ũ⺸  Text record  ġ ּҷ   ٸ Ʒ 
+ *  ڵ ٽ Ѵ. <br>
+ * 2) ũⰡ ٲ  :  ū ּҿ ڿ ǵ ɺ, ͷ, modification  ּҸ ű. object code
+ * ּҰ Ű ɺ ϴ ū, ּҰ Ű  ɺ PC relative ϴ  ū鸸 ٽ .
+ *  Text, Modification record ּҿ Header record ̰  ٲǷ  ڵ ̺κ ٽ
+ * Ѵ. (SHIFTED) <br>
+ * 3) ̺, ͷ, ܺ ɺ  ٲų EQU, EXTDEF, EXTREF, BASE, NOBASE, LTORG, END   : 
+ * ̺  ٲǷ  ū ̺ ٽ ϰ  ٽ Ѵ. (SECTION) <br>
+ * 4)  (START, CSECT) INCLUDE   :  ū  ٲǷ ü ٽ Ѵ. (PROGRAM) <br>
+ * ǵ  ɺ modification recordθ ϹǷ    ٸ  ڵ忡   ʴ´.
+ * relaxation, ȭ compact   ʴ´.
+ * <br>
+ * <br>
+ *   : <br>
+ * IncrementalAssembler incremental = new IncrementalAssembler(new InstTable("inst.data"), lines); <br>
+ * incremental.replaceLine(12, "\tLDA\tLENGTH"); <br>
+ * incremental.writeRecords(new RecordSink.FileSink("output_20160286"));
+ */
+public class IncrementalAssembler
+{
+	/** replaceLine ó  */
+	static final int PATCHED = 0;
+	static final int SHIFTED = 1;
+	static final int SECTION = 2;
+	static final int PROGRAM = 3;
+
+	// ̺   ϴ  ϴ Assembler
+	Assembler assembler;
+	//  ҽ ڵ ε
+	ArrayList<String> lines = new ArrayList<>();
+	// Ǻ ܵ ΰ ڵ
+	ArrayList<SectionState> sections = new ArrayList<>();
+
+	//  replaceLine object code ٽ  ū  ġų ٽ  ڵ 
+	int reencodedTokens, rewrittenRecords;
+
+	/**
+	 * ҽ ڵ ε ü ϰ   ʿ ε .
+	 *
+	 * @param instTable: instruction table
+	 * @param source: ҽ ڵ ε
+	 */
+	public IncrementalAssembler(InstTable instTable, List<String> source)
+	{
+		assembler = new Assembler(instTable);
+		lines.addAll(source);
+		assembleProgram();
+	}
+
+	/**
+	 *   ģ  ٲٰ Ʈ α׷ Ѵ.
+	 *
+	 * @param line: ٲ  ȣ (1 )
+	 * @param text:   
+	 * @return: ó  (PATCHED, SHIFTED, SECTION, PROGRAM)
+	 */
+	public int replaceLine(int line, String text)
+	{
+		String previous = lines.set(line - 1, text);
+		reencodedTokens = 0;
+		rewrittenRecords = 0;
+
+		// pass1  "START", "CSECT" ڿ  踦 
+		if (isBoundary(previous) || isBoundary(text))
+			return assembleProgram();
+
+		int index = findSection(line);
+		TokenTable tokenTable = assembler.TokenList.get(index);
+		int tokenIndex = findToken(tokenTable, line);
+		Token oldToken = tokenTable.getToken(tokenIndex);
+		Token newToken = tokenTable.setToken(tokenIndex, text);
+		newToken.sourceLine = line;
+
+		if (isDirective(oldToken, "INCLUDE") || isDirective(newToken, "INCLUDE"))
+			return assembleProgram();
+
+		// ּ ٲ  ڵ忡  
+		if (oldToken.label.equals(".") && newToken.label.equals("."))
+			return PATCHED;
+
+		if (changesTables(index, oldToken, newToken))
+			return assembleSection(index);
+
+		// delta: ū ũ ȭ
+		// candidates: object code ٽ  ū
+		SectionState section = sections.get(index);
+		int delta = newToken.byteSize - oldToken.byteSize;
+		BitSet candidates = new BitSet();
+		newToken.location = oldToken.location;
+		section.uses.removeUses(oldToken, tokenIndex, assembler.instTable);
+		section.uses.addUses(newToken, tokenIndex, assembler.instTable);
+		candidates.set(tokenIndex);
+
+		if (delta != 0 && !shiftSection(index, tokenIndex, delta, candidates))
+			return assembleSection(index);
+
+		// ũ RESW, RESB ΰ ٸ Text record  Ƿ ٲ object code ħ
+		// ĥ   record   ڵ ٽ 
+		boolean patch = delta == 0 && isReserve(oldToken) == isReserve(newToken);
+		for (int j = candidates.nextSetBit(0); j >= 0; j = candidates.nextSetBit(j + 1))
+		{
+			String before = j == tokenIndex ? oldToken.objectCode : tokenTable.getToken(j).objectCode;
+			tokenTable.remakeObjectCode(j, section.programCounters[j], getBaseRegister(index, j));
+			reencodedTokens++;
+
+			Token token = tokenTable.getToken(j);
+			if (patch && token.objectCode != null && !token.objectCode.equals(before))
+				patch = patchText(section, token.location, token.byteSize, token.objectCode);
+		}
+
+		if (patch)
+			return PATCHED;
+
+		emitSection(index);
+		return SHIFTED;
+	}
+
+	/**
+	 *   ڵ ʷ sink Ѱش. sink   ݴ´.
+	 *
+	 * @param sink: ڵ带  
+	 * @throws IOException: sink    
+	 */
+	public void writeRecords(RecordSink sink) throws IOException
+	{
+		try
+		{
+			for (SectionState section : sections)
+				for (String record : section.records)
+					sink.accept(record);
+		}
+		finally
+		{
+			sink.close();
+		}
+	}
+
+	/**
+	 *  ڵ Ѵ. ϵ Ʈ  replaceLine ٲ  ִ.
+	 *
+	 * @param index:  ȣ
+	 */
+	public List<String> getRecords(int index)
+	{
+		return sections.get(index).records;
+	}
+
+	/**
+	 *   Ѵ.
+	 */
+	public int getSectionCount()
+	{
+		return sections.size();
+	}
+
+	/**
+	 *  ҽ ڵ ε Ѵ.
+	 */
+	public List<String> getLines()
+	{
+		return lines;
+	}
+
+	/**
+	 *  replaceLine object code ٽ  ū  Ѵ.
+	 */
+	public int getReencodedCount()
+	{
+		return reencodedTokens;
+	}
+
+	/**
+	 *  replaceLine ġų ٽ  ڵ  Ѵ.
+	 */
+	public int getRewrittenCount()
+	{
+		return rewrittenRecords;
+	}
+
+	/**
+	 * ü ҽ ڵ带 ó ϰ Ǻ ΰ ڵ .
+	 *
+	 * @return: PROGRAM
+	 */
+	private int assembleProgram()
+	{
+		assembler.reset();
+		assembler.loadInput(lines);
+		assembler.pass1();
+
+		sections.clear();
+		for (int i = 0; i < assembler.TokenList.size(); i++)
+		{
+			sections.add(new SectionState());
+			capture(i, true);
+		}
+
+		return PROGRAM;
+	}
+
+	/**
+	 *  ū  ̺ ٽ ϰ  ٽ Ѵ.
+	 *
+	 * @param index:  ȣ
+	 * @return: SECTION
+	 */
+	private int assembleSection(int index)
+	{
+		// registerToken programNumber ̺鿡 
+		assembler.programNumber = index;
+		assembler.reassignSection(index);
+		assembler.checkReferences(assembler.TokenList.get(index));
+		assembler.addLocalModifications(assembler.TokenList.get(index), assembler.modifList.get(index));
+
+		TokenTable tokenTable = assembler.TokenList.get(index);
+		tokenTable.programCounter = 0;
+		tokenTable.baseRegister = -1;
+		capture(index, true);
+
+		return SECTION;
+	}
+
+	/**
+	 * object code    ڵ ̺κ ٽ Ѵ.
+	 *
+	 * @param index:  ȣ
+	 */
+	private void emitSection(int index)
+	{
+		capture(index, false);
+	}
+
+	/**
+	 *  ڵ Assembler Ͽ ϰ  ε .
+	 *
+	 * @param index:  ȣ
+	 * @param encode: true pass2  object code  
+	 */
+	private void capture(int index, boolean encode)
+	{
+		SectionState section = sections.get(index);
+		TokenTable tokenTable = assembler.TokenList.get(index);
+		RecordSink.MemorySink sink = new RecordSink.MemorySink();
+
+		assembler.recordSink = sink;
+		try
+		{
+			if (encode)
+				assembler.pass2Section(index, tokenTable, assembler.symtabList.get(index),
+						assembler.literalList.get(index), assembler.modifList.get(index));
+			else
+				assembler.emitSectionRecords(index, tokenTable, assembler.symtabList.get(index),
+						assembler.literalList.get(index), assembler.modifList.get(index));
+		}
+		finally
+		{
+			assembler.recordSink = null;
+		}
+
+		section.records = new ArrayList<>(sink.getRecords());
+		rewrittenRecords += section.records.size();
+		if (encode)
+			section.index(tokenTable);
+		section.indexText();
+	}
+
+	/**
+	 * ũⰡ deltaŭ ٲ ū  ּҵ ű, object code ٽ  ϴ ū candidates ǥѴ.
+	 * <br>
+	 * ڿ ǵ ɺ ּҰ Ű, EQU ɺ pass1  ٽ Ѵ.  LTORG, END ڿ ִٸ
+	 * ͷ鵵 Ű. ּҰ Ű ɺ տ ϰų  ּҷ ϴ ū, Ű  ɺ ڿ PC
+	 * relative ϴ ū,  base relative ū object code ٲ  ִ.
+	 *
+	 * @param index:  ȣ
+	 * @param tokenIndex: ũⰡ ٲ ū ġ
+	 * @param delta: ũ ȭ
+	 * @param candidates: object code ٽ  ū ǥ 
+	 * @return: ű ϰ  ٽ ؾ ϴ (ڿ ǵ ɺ ϴ EQU) false
+	 */
+	private boolean shiftSection(int index, int tokenIndex, int delta, BitSet candidates)
+	{
+		// from: ũⰡ ٲ ū ּ.  modification   ū 
+		// lastPool: ڿ ִ  LTORG, END ġ
+		SectionState section = sections.get(index);
+		TokenTable tokenTable = assembler.TokenList.get(index);
+		SymbolTable symTab = assembler.symtabList.get(index);
+		SymbolTable litTab = assembler.literalList.get(index);
+		UseDefIndex uses = section.uses;
+		int from = tokenTable.getToken(tokenIndex).location;
+		int lastPool = -1;
+
+		for (int j = tokenIndex + 1; j < tokenTable.getSize(); j++)
+		{
+			Token token = tokenTable.getToken(j);
+			section.programCounters[j] += delta;
+			if (token.label.equals("."))
+				continue;
+
+			token.location += delta;
+			if (isDirective(token, "LTORG") || isDirective(token, "END"))
+				lastPool = j;
+
+			//  ū  ɺ ּҸ ű
+			if (!token.label.equals("") && uses.getDefinition(token.label) == j)
+			{
+				if (isDirective(token, "EQU"))
+				{
+					// ڿ ǵ ɺ ϴ EQU pass1  ٽ   
+					for (String symbol : token.operand[0].split("-"))
+						if (uses.getDefinition(symbol) > j)
+							return false;
+
+					assembler.programNumber = index;
+					assembler.locCounter = token.location;
+					int value = assembler.operateAddress(token.operand[0]);
+					if (value != symTab.search(token.label))
+					{
+						symTab.modifySymbol(token.label, value);
+						markUses(section, tokenTable, token.label, -1, candidates);
+					}
+				}
+				else
+				{
+					symTab.modifySymbol(token.label, token.location);
+					markUses(section, tokenTable, token.label, tokenIndex, candidates);
+				}
+			}
+
+			// ּҰ Ű  ɺ̳ ͷ PC relative ϴ  base relative 
+			Operand operand = token.parsedOperand;
+			if (operand == null || operand.name == null || token.byteSize != 3 || !isInstruction(token))
+				continue;
+			if (token.getFlag(TokenTable.bFlag) == TokenTable.bFlag)
+				candidates.set(j);
+			else if (token.getFlag(TokenTable.pFlag) == TokenTable.pFlag
+					&& (operand.mode == Operand.LITERAL || !isShifted(uses, tokenTable, operand.name, tokenIndex)))
+				candidates.set(j);
+		}
+
+		// ͷ  LTORG, END ּҰ 
+		if (lastPool >= 0)
+		{
+			for (int k = 0; k < litTab.getSize(); k++)
+			{
+				litTab.modifySymbol(litTab.getSymbol(k), litTab.getLocation(k) + delta);
+				markUses(section, tokenTable, "=" + litTab.getSymbol(k), tokenIndex, candidates);
+			}
+		}
+
+		assembler.modifList.get(index).shiftLocations(from, delta);
+
+		//  BASE þ Ű ɺ Ű    base relative ū
+		for (int b = 0; b < section.baseDirectives.length && section.baseDirectives[b] < tokenIndex; b++)
+		{
+			Token directive = tokenTable.getToken(section.baseDirectives[b]);
+			if (!isDirective(directive, "BASE") || !isShifted(uses, tokenTable, directive.operand[0], tokenIndex))
+				continue;
+
+			int end = b + 1 < section.baseDirectives.length ? Math.min(section.baseDirectives[b + 1], tokenIndex) : tokenIndex;
+			for (int j = section.baseDirectives[b] + 1; j < end; j++)
+				if (tokenTable.getToken(j).getFlag(TokenTable.bFlag) == TokenTable.bFlag)
+					candidates.set(j);
+		}
+
+		return true;
+	}
+
+	/**
+	 * ּҰ ٲ ɺ ϴ ū candidates ǥѴ.<br>
+	 * tokenIndex  ū PC relative ϴ  ɺ PC Բ Ű object code Ƿ Ѵ.
+	 *
+	 * @param section:  ε
+	 * @param tokenTable:  ū ̺
+	 * @param symbol: ּҰ ٲ ɺ. ͷ "=" ǥø  ̸
+	 * @param tokenIndex: ũⰡ ٲ ū ġ. ɺ Բ Ű  ƴ϶(EQU) -1
+	 * @param candidates: ǥ 
+	 */
+	private void markUses(SectionState section, TokenTable tokenTable, String symbol, int tokenIndex, BitSet candidates)
+	{
+		for (int use = section.uses.getFirstUse(symbol); use >= 0; use = section.uses.getNext(use))
+		{
+			int j = section.uses.getTokenIndex(use);
+			Token token = tokenTable.getToken(j);
+			if (tokenIndex >= 0 && j > tokenIndex && token.byteSize == 3 && token.getFlag(TokenTable.pFlag) == TokenTable.pFlag)
+				continue;
+			candidates.set(j);
+		}
+	}
+
+	/**
+	 * ū ڰ ɾ ȮѴ. 4 ɾ '+' ǥô Ѵ.
+	 */
+	private boolean isInstruction(Token token)
+	{
+		String operator = token.operator.startsWith("+") ? token.operator.substring(1) : token.operator;
+		return assembler.instTable.isInstruction(operator);
+	}
+
+	/**
+	 * ɺ ũⰡ ٲ ū ڿ ġ ǵǾ  ū Բ Ű ȮѴ.
+	 */
+	private static boolean isShifted(UseDefIndex uses, TokenTable tokenTable, String symbol, int tokenIndex)
+	{
+		int definition = uses.getDefinition(symbol);
+		return definition > tokenIndex && !isDirective(tokenTable.getToken(definition), "EQU");
+	}
+
+	/**
+	 *    ɺ, ͷ, ܺ ɺ, modification  ̺̳ base register  ٲٴ ȮѴ.
+	 *
+	 * @param index:  ȣ
+	 * @param oldToken: ٲ  ū
+	 * @param newToken: ٲ ū
+	 * @return:  ٽ ؾ ϸ true
+	 */
+	private boolean changesTables(int index, Token oldToken, Token newToken)
+	{
+		if (!oldToken.label.equals(newToken.label))
+			return true;
+
+		String[] directives = { "EQU", "EXTDEF", "EXTREF", "BASE", "NOBASE", "LTORG", "END" };
+		for (String directive : directives)
+			if (isDirective(oldToken, directive) || isDirective(newToken, directive))
+				return true;
+
+		// ͷ table  ٲ 
+		String oldLiteral = getLiteral(oldToken), newLiteral = getLiteral(newToken);
+		if ((oldLiteral != null || newLiteral != null) && (oldLiteral == null || !oldLiteral.equals(newLiteral)))
+			return true;
+
+		// modification  ٲ 
+		SymbolTable extTab = assembler.externalList.get(index);
+		return isExternal(oldToken, extTab) || isExternal(newToken, extTab);
+	}
+
+	/**
+	 * ū ǿڰ ͷ̸ ͷ Ѵ. ƴ϶ null
+	 */
+	private static String getLiteral(Token token)
+	{
+		return token.operand != null && token.operand[0].startsWith("=") ? token.operand[0] : null;
+	}
+
+	/**
+	 * ū registerToken modification   ܺ ɺ ϰų,     ̸
+	 * modification    ִ 4 ɾ(ɺ̳ ͷ ϴ ) ȮѴ.
+	 */
+	private static boolean isExternal(Token token, SymbolTable extTab)
+	{
+		if (token.operator == null || token.operand == null)
+			return false;
+		if (token.operator.startsWith("+") && token.parsedOperand != null && !token.parsedOperand.constant)
+			return true;
+
+		int elements = token.operator.equals("WORD") ? token.operand.length : 1;
+		for (int e = 0; e < elements; e++)
+			if (extTab.isReferencedIn(token.operand[e]))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * ū ڰ þ ȮѴ.
+	 */
+	private static boolean isDirective(Token token, String directive)
+	{
+		return directive.equals(token.operator);
+	}
+
+	/**
+	 * ū Text record  RESW, RESB þ ȮѴ.
+	 */
+	private static boolean isReserve(Token token)
+	{
+		return isDirective(token, "RESW") || isDirective(token, "RESB");
+	}
+
+	/**
+	 *  pass1   еǴ ȮѴ.
+	 */
+	private static boolean isBoundary(String line)
+	{
+		return line.contains("START") || line.contains("CSECT");
+	}
+
+	/**
+	 *  ִ  ȣ ã´. Ǻ ù ū  ȣ  ŽѴ.
+	 *
+	 * @param line:  ȣ (1 )
+	 */
+	private int findSection(int line)
+	{
+		int low = 0, high = sections.size() - 1;
+		while (low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+			if (assembler.TokenList.get(middle).getToken(0).sourceLine <= line)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+
+		return low;
+	}
+
+	/**
+	 * ο  ū ġ ã´. ū  ȣ  Žϸ, INCLUDE ߰ ū麸 INCLUDE
+	 *  ū տ ִ.
+	 *
+	 * @param tokenTable:  ū ̺
+	 * @param line:  ȣ (1 )
+	 */
+	private static int findToken(TokenTable tokenTable, int line)
+	{
+		int low = 0, high = tokenTable.getSize() - 1;
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (tokenTable.getToken(middle).sourceLine < line)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	/**
+	 * ū object code   base register  Ѵ.   BASE, NOBASE þ .
+	 *
+	 * @param index:  ȣ
+	 * @param tokenIndex: ū ġ
+	 * @return: base register .    -1
+	 */
+	private int getBaseRegister(int index, int tokenIndex)
+	{
+		int[] directives = sections.get(index).baseDirectives;
+		int low = -1, high = directives.length - 1;
+		while (low < high)
+		{
+			int middle = (low + high + 1) >> 1;
+			if (directives[middle] < tokenIndex)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		if (low < 0)
+			return -1;
+
+		Token directive = assembler.TokenList.get(index).getToken(directives[low]);
+		return isDirective(directive, "BASE") ? assembler.symtabList.get(index).search(directive.operand[0]) : -1;
+	}
+
+	/**
+	 * address object code  ּҸ  Text record鿡 ģ. 30Ʈ  ʹ ̾ record
+	 *  ģ. <br>
+	 * object code record   Ʈ   谡 ƴ϶  ġ ּҷ   Ƿ ġ ʴ´.
+	 *
+	 * @param section:  ε
+	 * @param address: object code ּ
+	 * @param byteSize: object code Ʈ 
+	 * @param code:  object code
+	 * @return:  ƴٸ true. ĥ    false̸,   record ٽ ؾ 
+	 */
+	private boolean patchText(SectionState section, int address, int byteSize, String code)
+	{
+		if (code.length() != byteSize * 2)
+			return false;
+
+		// k: address  Text record.  ּҰ   ͷ record  record ã
+		int low = 0, high = section.textAddresses.length - 1;
+		while (low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+			if (section.textAddresses[middle] <= address)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+
+		// offset: ģ Ʈ 
+		int offset = 0;
+		for (int k = low; offset < byteSize && k < section.textAddresses.length; k++)
+		{
+			String record = section.records.get(section.textRecords[k]);
+			int length = Integer.parseInt(record.substring(7, 9), 16);
+			if (record.length() != 9 + length * 2)
+				return false;
+
+			int position = address + offset - section.textAddresses[k];
+			int part = Math.min(length - position, code.length() / 2 - offset);
+			if (part <= 0)
+				break;
+
+			char[] chars = record.toCharArray();
+			code.getChars(offset * 2, (offset + part) * 2, chars, 9 + position * 2);
+			section.records.set(section.textRecords[k], new String(chars));
+			rewrittenRecords++;
+			offset += part;
+		}
+
+		return offset == byteSize;
+	}
+
+	/**
+	 *    Ǹ ܵδ ΰ ڵ.
+	 */
+	static class SectionState
+	{
+		// ɺ use-def 
+		UseDefIndex uses;
+		// ū object code   PC  ( ū ũ )
+		int[] programCounters;
+		// BASE, NOBASE þ ū ġ
+		int[] baseDirectives;
+		//  ڵ
+		ArrayList<String> records;
+		// Text record  ּҿ records  ġ
+		int[] textAddresses, textRecords;
+
+		/**
+		 * ū ̺ use-def , PC  BASE þ ġ .
+		 *
+		 * @param tokenTable: object code   ū ̺
+		 */
+		void index(TokenTable tokenTable)
+		{
+			uses = new UseDefIndex(tokenTable);
+			programCounters = new int[tokenTable.getSize()];
+
+			// counter:  ū ũ 
+			// bases: BASE, NOBASE þ 
+			int counter = 0, bases = 0;
+			int[] directives = new int[tokenTable.getSize()];
+			for (int j = 0; j < tokenTable.getSize(); j++)
+			{
+				Token token = tokenTable.getToken(j);
+				programCounters[j] = counter;
+				counter += token.byteSize;
+				if (isDirective(token, "BASE") || isDirective(token, "NOBASE"))
+					directives[bases++] = j;
+			}
+			baseDirectives = java.util.Arrays.copyOf(directives, bases);
+		}
+
+		/**
+		 * records Text record  ּҿ ġ ã´.
+		 */
+		void indexText()
+		{
+			int count = 0;
+			for (String record : records)
+				if (record.charAt(0) == 'T')
+					count++;
+
+			textAddresses = new int[count];
+			textRecords = new int[count];
+			count = 0;
+			for (int k = 0; k < records.size(); k++)
+			{
+				if (records.get(k).charAt(0) != 'T')
+					continue;
+				textAddresses[count] = Integer.parseInt(records.get(k).substring(1, 7), 16);
+				textRecords[count++] = k;
+			}
+		}
+	}
+}
@@ -13,13 +13,18 @@ public class InstTable {
 	 *  ɾ ̸  شϴ Instruction    ִ.
 	 */
 	HashMap<String, Instruction> instMap;
+	/** opcode Instruction. Ʈ ڵ带 ɾ ǵ  Ѵ. */
+	Instruction[] opcodeMap;
 	
 	/**
 	 * Ŭ ʱȭ. Ľ ÿ óѴ.
+	 * ɾ  ã  о Ȯ ʵ    о θ, Ŀ ٲ Ƿ  thread
+	 * ȭ  Բ   ִ.
 	 * @param instFile : instruction     ̸
 	 */
 	public InstTable(String instFile) {
 		instMap = new HashMap<String, Instruction>();
+		opcodeMap = new Instruction[256];
 		openFile(instFile);
 	}
 	
@@ -33,19 +38,17 @@ public class InstTable {
 			FileReader fileReader = new FileReader(file);
 			BufferedReader bufReader = new BufferedReader(fileReader);
 			// line: inst.data Ͽ о  
-			// instName:  instruction
-			// tokens: line иϱ  StringTokenizer
-			String line = "", instName;
-			StringTokenizer tokens;
+			// instruction: ش  Ľ instruction ü
+			String line = "";
+			Instruction instruction;
 		
 			// Ͽ о     پ о 
 			while((line = bufReader.readLine()) != null){
-				// о   (" ")    иϿ
-				// instruction ̸  
-				tokens = new StringTokenizer(line);
-				instName = tokens.nextToken(" ");
-				// instruction ̸ key ϴ ش ο  instruction ü HashMap 
-				instMap.put(instName, new Instruction(line));
+				// о   ĽϿ instruction ̸ key HashMap 
+				// ̸ Instruction ̹ иϿǷ  ٽ и 
+				instruction = new Instruction(line);
+				instMap.put(instruction.instruction, instruction);
+				opcodeMap[instruction.opcode & 0xFF] = instruction;
 			}
 			// Է¹۸ 
 			bufReader.close();
@@ -129,6 +132,17 @@ public class InstTable {
 		return format;
 	}
 	
+	/**
+	 * ڷ  opcode  ɾ Ѵ.
+	 * 
+	 * @param opcode: ã ɾ opcode (3, 4 n, i Ʈ  )
+	 * @return: ش opcode ɾ.   null
+	 */
+	public Instruction getInstruction(int opcode)
+	{
+		return opcodeMap[opcode & 0xFF];
+	}
+
 	/**
 	 * ڷ  operator ɾ θ Ѵ.
 	 * hash map 󿡼 key ϴ Ѵ.
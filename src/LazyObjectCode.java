@@ -0,0 +1,271 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * pass1  Assembler pass2 , û ּ object code  Ŭ. <br>
+ * ų ùķó   ּҸ ʿ   ū object code  ʵ,  ó û 
+ * ū ͷ ּҸ  ΰ ū PC, base register  صΰ, û ּ  ū
+ * TokenTable.remakeObjectCode .  object code ū Ǿ Ƿ ٽ  ʴ´. <br>
+ *   ū  ϴ 迭  ĸ Ƿ, ù û ɸ ð pass1 Ѵ.
+ * ǵ  ޸𸮿 ־ ϹǷ ӽ Ϸ  ű 쿡   .
+ * <br>
+ * <br>
+ *   : <br>
+ * assembler.pass1(); <br>
+ * LazyObjectCode lazy = new LazyObjectCode(assembler); <br>
+ * int section = lazy.findSection("RDREC"); <br>
+ * for (int address = lazy.nextAddress(section, 0x10); address >= 0 && address < 0x20; address =
+ * lazy.nextAddress(section, address + 1)) <br>
+ * System.out.println(lazy.getObjectCode(section, address));
+ */
+public class LazyObjectCode
+{
+	// pass1  Assembler
+	Assembler assembler;
+	// Ǻ . ó û  
+	SectionIndex[] sections;
+
+	// object code  ū 
+	int encodedTokens;
+
+	/**
+	 * pass1  Assembler ǵ  غѴ. Ǻ  ó û  .
+	 *
+	 * @param assembler: pass1  Assembler
+	 */
+	public LazyObjectCode(Assembler assembler)
+	{
+		this.assembler = assembler;
+		sections = new SectionIndex[assembler.TokenList.size()];
+	}
+
+	/**
+	 * ̸  ã´.
+	 *
+	 * @param name:  ̸ (START, CSECT ̺)
+	 * @return:  ȣ.  -1
+	 */
+	public int findSection(String name)
+	{
+		for (int i = 0; i < sections.length; i++)
+			if (assembler.TokenList.get(i).getToken(0).label.equals(name))
+				return i;
+		return -1;
+	}
+
+	/**
+	 *   Ѵ.
+	 */
+	public int getSectionCount()
+	{
+		return sections.length;
+	}
+
+	/**
+	 * address ̻ ּ  object code ۵Ǵ   ּҸ ã´. ּ   object code ʷ
+	 *   Ѵ. RESW, RESBó object code  ū ּҵ Եȴ.
+	 *
+	 * @param section:  ȣ
+	 * @param address: ã  ּ
+	 * @return: ã ּ.  -1
+	 */
+	public int nextAddress(int section, int address)
+	{
+		SectionIndex index = getIndex(section);
+		int k = index.ceiling(address);
+		return k < index.keys.length ? (int) (index.keys[k] >> 32) : -1;
+	}
+
+	/**
+	 * ּҿ ϴ ū̳ ͷ object code Ѵ. ū object code  ٸ . <br>
+	 *  ּҿ  ū ִٸ ũⰡ ִ ó ū object code Ѵ.
+	 *
+	 * @param section:  ȣ
+	 * @param address:  κ ּ
+	 * @return: object code.  ּҿ ϴ ū̳ ͷ ų object code  ū(RESW, RESB)̸ null
+	 */
+	public String getObjectCode(int section, int address)
+	{
+		SectionIndex index = getIndex(section);
+		int k = index.ceiling(address);
+		if (k == index.keys.length || (int) (index.keys[k] >> 32) != address)
+			return null;
+
+		return getCode(section, index, (int) index.keys[k]);
+	}
+
+	/**
+	 * [start, end) ּ  ģ ū object code .  տ Ͽ   ̾ ū
+	 * Ѵ.
+	 *
+	 * @param section:  ȣ
+	 * @param start:   ּ
+	 * @param end:   ּ ( )
+	 * @return: ̹  object code  ū 
+	 */
+	public int encode(int section, int start, int end)
+	{
+		SectionIndex index = getIndex(section);
+		int before = encodedTokens;
+
+		//  տ  ū  ̾ Ȯϱ  start   ׸ 캽
+		int k = index.ceiling(start);
+		if (k > 0 && (k == index.keys.length || (int) (index.keys[k] >> 32) > start))
+			k--;
+
+		for (; k < index.keys.length && (int) (index.keys[k] >> 32) < end; k++)
+		{
+			int id = (int) index.keys[k];
+			if ((int) (index.keys[k] >> 32) + index.getSize(id) > start)
+				getCode(section, index, id);
+		}
+
+		return encodedTokens - before;
+	}
+
+	/**
+	 * ݱ object code  ū  Ѵ.
+	 */
+	public int getEncodedCount()
+	{
+		return encodedTokens;
+	}
+
+	/**
+	 *   Ѵ. ó û ̶ .
+	 */
+	private SectionIndex getIndex(int section)
+	{
+		if (sections[section] == null)
+			sections[section] = new SectionIndex(assembler.TokenList.get(section), assembler.symtabList.get(section),
+					assembler.literalList.get(section));
+		return sections[section];
+	}
+
+	/**
+	 *   ū̳ ͷ object code Ѵ. ū object code  ٸ .
+	 *
+	 * @param section:  ȣ
+	 * @param index:  
+	 * @param id: ū ȣ. ū  ̸̻ ͷ ȣ ū   
+	 */
+	private String getCode(int section, SectionIndex index, int id)
+	{
+		TokenTable tokenTable = assembler.TokenList.get(section);
+		if (id >= tokenTable.getSize())
+		{
+			int literal = id - tokenTable.getSize();
+			if (index.literalCodes[literal] == null)
+				index.literalCodes[literal] = TokenTable.encodeConstant(assembler.literalList.get(section).getSymbol(literal));
+			return index.literalCodes[literal];
+		}
+
+		if (!index.encoded.get(id))
+		{
+			tokenTable.remakeObjectCode(id, index.programCounters[id], index.getBaseRegister(id));
+			index.encoded.set(id);
+			encodedTokens++;
+		}
+		return tokenTable.getObjectCode(id);
+	}
+
+	/**
+	 *   ּ ΰ object code   ʿ ū .
+	 */
+	static class SectionIndex
+	{
+		// ּҸ  32Ʈ, ū ȣ(ͷ ͷ ȣ + ū )  32Ʈ   
+		// ũⰡ ִ ū ͷ . ּҰ ٸ ū 
+		long[] keys;
+		// ū, ͷ Ʈ ũ
+		int[] sizes;
+
+		// ū object code   PC . pass2   ū ũ 
+		int[] programCounters;
+		// ū object code   base register . BASE, NOBASE þ  ̸ null ( -1)
+		int[] baseRegisters;
+		// object code  ū  ͷ object code
+		BitSet encoded = new BitSet();
+		String[] literalCodes;
+
+		/**
+		 * ū ̺ ͷ ̺  .
+		 *
+		 * @param tokenTable: pass1   ū ̺
+		 * @param symTab: BASE þ ɺ ã  ɺ ̺
+		 * @param litTab:  ͷ ̺
+		 */
+		SectionIndex(TokenTable tokenTable, SymbolTable symTab, SymbolTable litTab)
+		{
+			int tokens = tokenTable.getSize();
+			programCounters = new int[tokens];
+			sizes = new int[tokens + litTab.getSize()];
+			literalCodes = new String[litTab.getSize()];
+
+			// count: keys  ׸ 
+			// programCounter, baseRegister: pass2  ū ʷ  ٲ 
+			long[] entries = new long[sizes.length];
+			int count = 0, programCounter = 0, baseRegister = -1;
+			for (int j = 0; j < tokens; j++)
+			{
+				Token token = tokenTable.viewToken(j);
+				programCounters[j] = programCounter;
+				programCounter += token.byteSize;
+				sizes[j] = token.byteSize;
+				if (token.byteSize > 0)
+					entries[count++] = ((long) token.location << 32) | j;
+
+				// BASE þ object code   base register  ٲٹǷ ū 
+				if ("BASE".equals(token.operator) || "NOBASE".equals(token.operator))
+				{
+					if (baseRegisters == null)
+					{
+						baseRegisters = new int[tokens];
+						Arrays.fill(baseRegisters, 0, j, -1);
+					}
+					baseRegister = token.operator.equals("BASE") ? symTab.search(token.operand[0]) : -1;
+				}
+				if (baseRegisters != null)
+					baseRegisters[j] = baseRegister;
+			}
+
+			// ּҰ   ͷ(LTORG, END  )  
+			for (int k = 0; k < litTab.getSize(); k++)
+			{
+				sizes[tokens + k] = litTab.getLiteralSize(k);
+				if (litTab.getLocation(k) >= 0)
+					entries[count++] = ((long) litTab.getLocation(k) << 32) | (tokens + k);
+			}
+
+			keys = Arrays.copyOf(entries, count);
+			Arrays.sort(keys);
+		}
+
+		/**
+		 * ּҰ address ̻ ù ׸ ġ ã´.
+		 *
+		 * @return: keys  ġ.  keys 
+		 */
+		int ceiling(int address)
+		{
+			int k = Arrays.binarySearch(keys, (long) address << 32);
+			return k < 0 ? -k - 1 : k;
+		}
+
+		/**
+		 * ū̳ ͷ Ʈ ũ⸦ Ѵ.
+		 */
+		int getSize(int id)
+		{
+			return sizes[id];
+		}
+
+		/**
+		 * ū object code   base register  Ѵ.
+		 */
+		int getBaseRegister(int tokenIndex)
+		{
+			return baseRegisters == null ? -1 : baseRegisters[tokenIndex];
+		}
+	}
+}
@@ -0,0 +1,164 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *   Ȯ ũ⸦ ̸ Ͽ  ũ⸸ŭ memory-mapped ۸ Ҵϰ, ڵ带   ۿ   Ŭ. <br>
+ * BufferedWriter ޸ ߰ ڿ ۳ codeList ġ ʴ´. <br>
+ *  ü ƴ  ũ (window) ϰ      ϹǷ, 2GB Ѵ ϵ   ִ. <br>
+ * <br>
+ * ǻ : µǴ ڵ  ASCII ڷ ̷ ־ ϸ,   ũⰡ ̸  ũ ٸ IOException
+ * ߻ϰ ߸   ʵ  .
+ */
+public class MappedRecordWriter
+{
+	/** ٹٲ ڿ. BufferedWriter.newLine()   Ѵ. */
+	static final String LINE_SEPARATOR = System.lineSeparator();
+	/**     ũ */
+	static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+	Path path;  //   
+	FileChannel channel;  //   ä
+	MappedByteBuffer buffer;  //  ε 
+	long bufferStart;  //  ε     ġ
+	long size;  // ̸   ũ
+	long startTime;  //   ð (nano second)
+	long elapsedTime;  //      ɸ ð (nano second)
+
+	/**
+	 *   ù  Ѵ.
+	 * 
+	 * @param fileName:   ̸
+	 * @param size: µ  Ȯ Ʈ ũ
+	 * @throws IOException:  ų    
+	 */
+	public MappedRecordWriter(String fileName, long size) throws IOException
+	{
+		startTime = System.nanoTime();
+		this.size = size;
+		path = Paths.get(fileName);
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		map(0);
+	}
+
+	/**
+	 * ڵ     ٲ۴.
+	 * 
+	 * @param record:  ڵ
+	 * @throws IOException: ̸  ũ⸦ Ѿ 
+	 */
+	public void writeLine(String record) throws IOException
+	{
+		write(record);
+		newLine();
+	}
+
+	/**
+	 * ٹٲ ڸ .
+	 * 
+	 * @throws IOException: ̸  ũ⸦ Ѿ 
+	 */
+	public void newLine() throws IOException
+	{
+		write(LINE_SEPARATOR);
+	}
+
+	/**
+	 * ڿ  ھ Ʈ ȯϿ ۿ  .      Ѵ.
+	 * 
+	 * @param data:  ڿ
+	 * @throws IOException: ̸  ũ⸦ Ѿ 
+	 */
+	private void write(String data) throws IOException
+	{
+		if (size - getWritten() < data.length())
+			throw new IOException("output exceeds precomputed size " + size);
+
+		for (int i = 0; i < data.length(); i++)
+		{
+			if (!buffer.hasRemaining())
+			{
+				buffer.force();
+				map(bufferStart + buffer.capacity());
+			}
+			buffer.put((byte) data.charAt(i));
+		}
+	}
+
+	/**
+	 *  start ġ   Ѵ.
+	 * 
+	 * @param start:    ġ
+	 * @throws IOException:    
+	 */
+	private void map(long start) throws IOException
+	{
+		bufferStart = start;
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(WINDOW_SIZE, size - start));
+	}
+
+	/**
+	 * ݱ  Ʈ  Ѵ.
+	 */
+	private long getWritten()
+	{
+		return bufferStart + buffer.position();
+	}
+
+	/**
+	 *   ũ ݿϰ  ݴ´.
+	 * 
+	 * @throws IOException:   ũⰡ ̸  ũ ٸ .    
+	 */
+	public void close() throws IOException
+	{
+		// written:   Ʈ 
+		long written = getWritten();
+
+		buffer.force();
+		channel.close();
+		elapsedTime = System.nanoTime() - startTime;
+
+		if (written != size)
+		{
+			Files.deleteIfExists(path);
+			throw new IOException("output size " + written + " differs from precomputed size " + size);
+		}
+	}
+
+	/**
+	 *  ׸ΰ    . ڵ带  ߿  ߻  close()  ȣѴ.
+	 * 
+	 * @throws IOException:     
+	 */
+	public void abort() throws IOException
+	{
+		channel.close();
+		Files.deleteIfExists(path);
+	}
+
+	/**
+	 * µ  ũ⸦ Ѵ.
+	 * 
+	 * @return:  ũ (byte)
+	 */
+	public long getSize()
+	{
+		return size;
+	}
+
+	/**
+	 *  ó Ѵ. close() Ŀ ȣѴ.
+	 * 
+	 * @return: ʴ  MB 
+	 */
+	public double getThroughput()
+	{
+		return (size / (1024.0 * 1024.0)) / (elapsedTime / 1e9);
+	}
+}
@@ -0,0 +1,378 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * ObjectProgramReader  Ʈ α׷ Text record InstTable ̿ ɾ ǵ (listing) ϴ Ŭ. <br>
+ *  ɾ opcode ɾ  ã, nixbpe ּ  İ ǿڸ ؼѴ. ɾ ؼ   Ʈ BYTE Ѵ.
+ * <br>
+ *  پ  ٷ ϹǷ  ũ   ޸𸮸 Ѵ.
+ * <br>
+ * <br>
+ *   : <br>
+ * 1) ɾ : ּ, object code, ɾ ̸(4̸ '+'), ǿ <br>
+ * 2) ǿ : immediate '#', indirect '@' ̰, PC relative  Ÿ ּ, base relative B+, 4 ּҸ  <br>
+ * 3)   ڵ :  ̸ , ܺ ɺ , modification , ù  ּҸ  پ 
+ */
+public class ObjectProgramDisassembler
+{
+	/** 2 ɾ  ȣ ̸ */
+	private static final String[] REGISTER_NAMES = { "A", "X", "L", "B", "S", "T", "F", "?", "PC", "SW" };
+
+	// ɾ  ã instruction table
+	InstTable instTable;
+
+	// ؼ ɾ  ɾ ؼ  Ʈ 
+	long instructionCount;
+	long dataCount;
+
+	//     . ٸ ٽ 
+	StringBuilder line;
+
+	// ̺ ǥ   section symbol table. null̸ ǥ 
+	List<SymbolTable> symbolTables;
+	//  а ִ section ȣ
+	int section = -1;
+	//  ؼ ɾ ǿڰ Ű ּ. ּҸ   ٸ -1
+	int target;
+
+	/**
+	 * instruction table ũѴ.
+	 * 
+	 * @param instTable: ɾ  ã instruction table
+	 */
+	public ObjectProgramDisassembler(InstTable instTable)
+	{
+		this.instTable = instTable;
+		line = new StringBuilder();
+	}
+
+	/**
+	 * Ͽ ̺ ǥ section symbol table Ѵ.<br>
+	 * ɾ տ  ּҿ ǵ ɺ, ǿڰ Ű ּ ڿ    ɺ Ÿ ǥѴ.
+	 * 
+	 * @param symbolTables: Ʈ α׷ section  symbol table
+	 */
+	public void setSymbolTables(List<SymbolTable> symbolTables)
+	{
+		this.symbolTables = symbolTables;
+	}
+
+	/**
+	 * reader  ڵ  о  Ѵ.
+	 * 
+	 * @param reader: Ʈ α׷ reader
+	 * @param out:   . null̸  ʰ ؼ  ()
+	 * @throws IOException:  аų    
+	 */
+	public void disassemble(ObjectProgramReader reader, Writer out) throws IOException
+	{
+		while (reader.next())
+		{
+			switch (reader.getType())
+			{
+			case 'H':
+				section++;
+				line.append("PROGRAM ").append(reader.getProgramName()).append(" start ");
+				appendHex(reader.getProgramStart(), 6).append(" length ");
+				appendHex(reader.getProgramLength(), 6);
+				writeLine(out);
+				break;
+			case 'D':
+				line.append("EXTDEF ").append(reader, 1, reader.length());
+				writeLine(out);
+				break;
+			case 'R':
+				line.append("EXTREF ").append(reader, 1, reader.length());
+				writeLine(out);
+				break;
+			case 'T':
+				disassembleText(reader, out);
+				break;
+			case 'M':
+				line.append("MODIFY ");
+				appendHex(reader.getModifAddress(), 6).append(' ');
+				appendHex(reader.getModifLength(), 2).append(' ').append(reader, 9, reader.length());
+				writeLine(out);
+				break;
+			case 'E':
+				line.append("END");
+				if (reader.getEntryAddress() >= 0)
+				{
+					line.append(' ');
+					appendHex(reader.getEntryAddress(), 6);
+				}
+				writeLine(out);
+				break;
+			default:
+				throw new IOException("unknown record type in record " + reader.getRecordCount() + ": " + reader);
+			}
+		}
+	}
+
+	/**
+	 * Text record ϳ object code ɾ  ؼϿ Ѵ.
+	 * 
+	 * @param reader: Text record а ִ reader
+	 * @param out:   . null̸  
+	 * @throws IOException:    
+	 */
+	private void disassembleText(ObjectProgramReader reader, Writer out) throws IOException
+	{
+		// address: Text record  ּ
+		// length: Text record Ʈ 
+		// symTab: ̺ ǥ  section symbol table.  null
+		// labels: Text record ּ  ȿ ǵ ɺ, nextLabel:  ǥ ɺ
+		int address = reader.getTextAddress();
+		int length = reader.getTextLength();
+		SymbolTable symTab = symbolTables != null && section >= 0 && section < symbolTables.size() ? symbolTables.get(section) : null;
+		int[] labels = symTab != null ? symTab.getAddressIndex().range(address, address + length) : new int[0];
+		int nextLabel = 0;
+
+		for (int i = 0; i < length;)
+		{
+			int size = disassembleInstruction(reader, address + i, i, length - i);
+
+			// ɾ ؼ  ٸ  Ʈ ͷ 
+			if (size == 0)
+			{
+				line.setLength(0);
+				appendObjectCode(reader, address + i, i, 1).append("BYTE");
+				pad(34);
+				line.append("X'");
+				appendHex(reader.getTextByte(i), 2).append('\'');
+				dataCount++;
+				size = 1;
+			}
+			else
+				instructionCount++;
+
+			// ǿڰ Ű ּ    ɺ Ÿ ǥ
+			if (symTab != null && target >= 0)
+				appendNearestLabel(symTab, target);
+
+			//  ɾ ϴ ּҿ ǵ ɺ ɾ  ٿ ǥ
+			if (nextLabel < labels.length && symTab.getLocation(labels[nextLabel]) < address + i + size)
+			{
+				String instructionLine = line.toString();
+				line.setLength(0);
+				while (nextLabel < labels.length && symTab.getLocation(labels[nextLabel]) < address + i + size)
+				{
+					line.append(symTab.getSymbol(labels[nextLabel++])).append(':');
+					writeLine(out);
+				}
+				line.append(instructionLine);
+			}
+
+			writeLine(out);
+			i += size;
+		}
+	}
+
+	/**
+	 * Text record offset ġ ɾ ϳ ؼϿ    .
+	 * 
+	 * @param reader: Text record а ִ reader
+	 * @param address: ɾ ּ
+	 * @param offset: Text record  Ʈ ġ
+	 * @param remaining: Text record  Ʈ 
+	 * @return: ɾ Ʈ ũ. ɾ ؼ  ٸ 0. ǿڰ Ű ּҴ target 
+	 */
+	private int disassembleInstruction(ObjectProgramReader reader, int address, int offset, int remaining)
+	{
+		// 3, 4 opcode Ʒ  Ʈ n, i Ƿ  Ʈ   ã
+		int first = reader.getTextByte(offset);
+		target = -1;
+		Instruction instruction = instTable.getInstruction(first & 0xFC);
+		if (instruction == null)
+			return 0;
+
+		line.setLength(0);
+
+		if (instruction.format == 2)
+		{
+			if (remaining < 2 || instruction.opcode != first)
+				return 0;
+
+			int registers = reader.getTextByte(offset + 1);
+			appendObjectCode(reader, address, offset, 2).append(instruction.instruction);
+			pad(34);
+			line.append(registerName(registers >> 4));
+			if (instruction.numberOfOperand > 1)
+				line.append(',').append(registerName(registers & 0xF));
+
+			return 2;
+		}
+
+		if (instruction.format != 3 || remaining < 3)
+			return 0;
+
+		// n, i: ּ   Ʈ
+		// x, b, p, e: ι° Ʈ   Ʈ
+		int second = reader.getTextByte(offset + 1);
+		boolean n = (first & 2) != 0, i = (first & 1) != 0;
+		boolean x = (second & 0x80) != 0, b = (second & 0x40) != 0, p = (second & 0x20) != 0, e = (second & 0x10) != 0;
+		int size = (n || i) && e ? 4 : 3;
+
+		// 4 relative addressing  
+		// PC relative base relative ÿ   
+		if (remaining < size || (size == 4 && (b || p)) || (b && p))
+			return 0;
+
+		appendObjectCode(reader, address, offset, size);
+		if (size == 4)
+			line.append('+');
+		line.append(instruction.instruction);
+		pad(34);
+
+		// ǿڰ  ɾ (RSUB )
+		if (instruction.numberOfOperand == 0)
+			return size;
+
+		// SIC ȣȯ   15Ʈ ּ
+		if (!n && !i)
+		{
+			target = ((second & 0x7F) << 8) | reader.getTextByte(offset + 2);
+			appendHex(target, 6);
+			if (x)
+				line.append(",X");
+			return size;
+		}
+
+		// indirect addressing '@', immediate addressing '#' 
+		if (n && !i)
+			line.append('@');
+		else if (!n && i)
+			line.append('#');
+
+		// 4  20Ʈ ּ
+		// ּҰ 0̸ ܺ ɺ modification record äǷ Ÿ ּҷ  
+		if (size == 4)
+		{
+			int address20 = ((second & 0x0F) << 16) | (reader.getTextByte(offset + 2) << 8) | reader.getTextByte(offset + 3);
+			appendHex(address20, 5);
+			if (address20 != 0 && (n || !i))
+				target = address20;
+		}
+		else
+		{
+			int displacement = ((second & 0x0F) << 8) | reader.getTextByte(offset + 2);
+
+			// PC relative  ȣ ִ  Ÿ ּҸ 
+			if (p)
+			{
+				target = (address + 3 + (displacement << 20 >> 20)) & 0xFFFFFF;
+				appendHex(target, 6);
+			}
+			// base relative  base register    Ƿ  
+			else if (b)
+			{
+				line.append("B+");
+				appendHex(displacement, 3);
+			}
+			// immediate  10 
+			else if (!n && i)
+				line.append(displacement);
+			else
+				appendHex(displacement, 3);
+		}
+
+		if (x)
+			line.append(",X");
+
+		return size;
+	}
+
+	/**
+	 * ּ    ɺ  ɺκ Ÿ line  ּ .
+	 * 
+	 * @param symTab: ɺ ã symbol table
+	 * @param address: ǥ ּ
+	 */
+	private void appendNearestLabel(SymbolTable symTab, int address)
+	{
+		int symbol = symTab.searchFloor(address);
+		if (symbol < 0)
+			return;
+
+		pad(48);
+		line.append("; ").append(symTab.getSymbol(symbol));
+		if (address > symTab.getLocation(symbol))
+			line.append('+').append(Integer.toHexString(address - symTab.getLocation(symbol)).toUpperCase());
+	}
+
+	/**
+	 * ּҿ object code line .
+	 */
+	private StringBuilder appendObjectCode(ObjectProgramReader reader, int address, int offset, int size)
+	{
+		appendHex(address, 6).append("  ");
+		for (int k = 0; k < size; k++)
+			appendHex(reader.getTextByte(offset + k), 2);
+		pad(24);
+
+		return line;
+	}
+
+	/**
+	 *  ȣ ̸ Ѵ.
+	 */
+	private static String registerName(int register)
+	{
+		return register < REGISTER_NAMES.length ? REGISTER_NAMES[register] : Integer.toString(register);
+	}
+
+	/**
+	 * line ̰ column    δ.
+	 */
+	private void pad(int column)
+	{
+		do
+			line.append(' ');
+		while (line.length() < column);
+	}
+
+	/**
+	 * value digits ڸ 빮 16 line .
+	 */
+	private StringBuilder appendHex(int value, int digits)
+	{
+		for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4)
+			line.append(Character.toUpperCase(Character.forDigit((value >> shift) & 0xF, 16)));
+
+		return line;
+	}
+
+	/**
+	 *    ϰ line . ǿڰ  ɾ    .
+	 */
+	private void writeLine(Writer out) throws IOException
+	{
+		while (line.length() > 0 && line.charAt(line.length() - 1) == ' ')
+			line.setLength(line.length() - 1);
+
+		if (out != null)
+		{
+			out.append(line);
+			out.write(System.lineSeparator());
+		}
+
+		line.setLength(0);
+	}
+
+	/**
+	 * ؼ ɾ  Ѵ.
+	 */
+	public long getInstructionCount()
+	{
+		return instructionCount;
+	}
+
+	/**
+	 * ɾ ؼ  Ʈ  Ѵ.
+	 */
+	public long getDataCount()
+	{
+		return dataCount;
+	}
+}
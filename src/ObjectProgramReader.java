@@ -0,0 +1,315 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * printObjectCode µ Ʈ α׷  memory-mapϿ ڵ  ʷ д Ŭ. <br>
+ *  ü ƴ  ũ (window) ϰ д ġ   űǷ  ũ   ޸𸮸 Ѵ. <br>
+ * ڵ帶 String  ʰ,  ڵ ʵ带 ε ۿ ٷ 16  д´.  ڵ CharSequenceε   ִ.
+ * <br>
+ * <br>
+ *   : <br>
+ * while (reader.next()) { if (reader.getType() == 'T') ... reader.getTextByte(i) ... }
+ */
+public class ObjectProgramReader implements CharSequence
+{
+	/**     ũ */
+	static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+	/** ASCII ں 16 . 16 ڰ ƴϸ -1 */
+	private static final byte[] HEX_VALUES = new byte[256];
+	static
+	{
+		java.util.Arrays.fill(HEX_VALUES, (byte) -1);
+		for (int i = 0; i < 16; i++)
+		{
+			HEX_VALUES["0123456789ABCDEF".charAt(i)] = (byte) i;
+			HEX_VALUES["0123456789abcdef".charAt(i)] = (byte) i;
+		}
+	}
+
+	//  äΰ ü ũ
+	FileChannel channel;
+	long fileSize;
+
+	//  ε       ġ
+	MappedByteBuffer window;
+	long windowStart;
+
+	//  ڵ    ġ (ٹٲ  ),  ڵ带 ã    ġ
+	int recordStart, recordLength, nextPosition;
+	// ݱ  ڵ 
+	long recordCount;
+
+	/**
+	 *   ù  Ѵ.
+	 * 
+	 * @param fileName:  Ʈ α׷  ̸
+	 * @throws IOException:     
+	 */
+	public ObjectProgramReader(String fileName) throws IOException
+	{
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		fileSize = channel.size();
+		map(0);
+	}
+
+	/**
+	 *  ڵ ̵Ѵ.   ǳʶڴ.
+	 * 
+	 * @return:  ڵ尡 ִٸ true,  ̶ false
+	 * @throws IOException:    ų  ڵ尡   
+	 */
+	public boolean next() throws IOException
+	{
+		while (true)
+		{
+			//   ã
+			int position = nextPosition;
+			int limit = window.limit();
+			while (position < limit && window.get(position) != '\n')
+				position++;
+
+			//  ȿ   ã ߰   ִٸ  ۺ ٽ 
+			if (position == limit && windowStart + limit < fileSize)
+			{
+				if (nextPosition == 0)
+					throw new IOException("record longer than " + WINDOW_SIZE + " bytes at offset " + windowStart);
+
+				map(windowStart + nextPosition);
+				continue;
+			}
+
+			//  
+			if (position == nextPosition && position == limit)
+				return false;
+
+			recordStart = nextPosition;
+			recordLength = position - nextPosition;
+			nextPosition = Math.min(position + 1, limit);
+
+			// "\r\n" ٹٲ '\r' ڵ忡  
+			if (recordLength > 0 && window.get(recordStart + recordLength - 1) == '\r')
+				recordLength--;
+
+			//   ǳʶ
+			if (recordLength == 0)
+				continue;
+
+			recordCount++;
+			return true;
+		}
+	}
+
+	/**
+	 *  ڵ  Ѵ.
+	 * 
+	 * @return: 'H', 'D', 'R', 'T', 'M', 'E'  ϳ
+	 */
+	public char getType()
+	{
+		return charAt(0);
+	}
+
+	/**
+	 *  ڵ offset ġ digits ڸ 16  д´.
+	 * 
+	 * @param offset: ڵ   ġ
+	 * @param digits: ڸ
+	 * @return:  
+	 * @throws IllegalArgumentException: 16 ƴ ڰ ִ 
+	 */
+	public int getHex(int offset, int digits)
+	{
+		if (offset < 0 || offset + digits > recordLength)
+			throw new IllegalArgumentException("record " + recordCount + " too short: " + this);
+
+		int value = 0;
+
+		for (int i = recordStart + offset; i < recordStart + offset + digits; i++)
+		{
+			int digit = HEX_VALUES[window.get(i) & 0xFF];
+			if (digit < 0)
+				throw new IllegalArgumentException("invalid hex digit in record " + recordCount + ": " + this);
+
+			value = (value << 4) | digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Header record α׷ ̸ Ѵ. ̸    ʴ´.
+	 * 
+	 * @return: α׷ ̸
+	 */
+	public CharSequence getProgramName()
+	{
+		int end = recordLength - 12;
+		while (end > 1 && charAt(end - 1) == ' ')
+			end--;
+
+		return subSequence(1, end);
+	}
+
+	/**
+	 * Header record  ּҸ Ѵ.
+	 */
+	public int getProgramStart()
+	{
+		return getHex(recordLength - 12, 6);
+	}
+
+	/**
+	 * Header record α׷ ̸ Ѵ.
+	 */
+	public int getProgramLength()
+	{
+		return getHex(recordLength - 6, 6);
+	}
+
+	/**
+	 * Text record  ּҸ Ѵ.
+	 */
+	public int getTextAddress()
+	{
+		return getHex(1, 6);
+	}
+
+	/**
+	 * Text record  object code Ʈ  Ѵ.
+	 */
+	public int getTextLength()
+	{
+		return getHex(7, 2);
+	}
+
+	/**
+	 * Text record  object code index ° Ʈ Ѵ.
+	 * 
+	 * @param index: Ʈ ġ
+	 * @return: 0 ~ 255  
+	 */
+	public int getTextByte(int index)
+	{
+		return getHex(9 + index * 2, 2);
+	}
+
+	/**
+	 * Modification record  ּҸ Ѵ.
+	 */
+	public int getModifAddress()
+	{
+		return getHex(1, 6);
+	}
+
+	/**
+	 * Modification record  (half byte ) Ѵ.
+	 */
+	public int getModifLength()
+	{
+		return getHex(7, 2);
+	}
+
+	/**
+	 * Modification record ȣ('+' Ǵ '-') ɺ Ѵ.
+	 */
+	public CharSequence getModifSymbol()
+	{
+		return subSequence(9, recordLength);
+	}
+
+	/**
+	 * End record ù  ּҸ Ѵ.
+	 * 
+	 * @return: ù  ּ.    -1
+	 */
+	public int getEntryAddress()
+	{
+		return recordLength > 1 ? getHex(1, 6) : -1;
+	}
+
+	/**
+	 * ݱ  ڵ  Ѵ.
+	 */
+	public long getRecordCount()
+	{
+		return recordCount;
+	}
+
+	/**
+	 *  ũ⸦ Ѵ.
+	 */
+	public long getFileSize()
+	{
+		return fileSize;
+	}
+
+	/**
+	 *  ݴ´.
+	 * 
+	 * @throws IOException:     
+	 */
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 *  ڵ ̸ Ѵ. (ٹٲ  )
+	 */
+	@Override
+	public int length()
+	{
+		return recordLength;
+	}
+
+	/**
+	 *  ڵ index ° ڸ Ѵ. ڵ ASCII ڷ ̷ ִ.
+	 */
+	@Override
+	public char charAt(int index)
+	{
+		if (index < 0 || index >= recordLength)
+			throw new IndexOutOfBoundsException("index " + index + ", record length " + recordLength);
+
+		return (char) (window.get(recordStart + index) & 0xFF);
+	}
+
+	/**
+	 *  ڵ Ϻθ String Ѵ.
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end)
+	{
+		StringBuilder builder = new StringBuilder(end - start);
+		for (int i = start; i < end; i++)
+			builder.append(charAt(i));
+
+		return builder.toString();
+	}
+
+	/**
+	 *  ڵ带 String Ѵ.
+	 */
+	@Override
+	public String toString()
+	{
+		return subSequence(0, recordLength).toString();
+	}
+
+	/**
+	 *  start ġ   Ѵ.
+	 * 
+	 * @param start:    ġ
+	 * @throws IOException:    
+	 */
+	private void map(long start) throws IOException
+	{
+		windowStart = start;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, fileSize - start));
+		nextPosition = 0;
+	}
+}
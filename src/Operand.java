@@ -0,0 +1,103 @@
+/**
+ * Token ǿڸ pass2 ڿ ó  ٷ   ֵ line м  ̸ м . <br>
+ * ּ  , ǥ(#, @, =)  ɺ Ǵ ͷ ̸   key, immediate , index  , 2  ȣ Ѵ. <br>
+ * ǿ ڿ Ƿ  ǿڸ  Token Բ   ,  ڿ ٲ ʴ´.
+ */
+class Operand
+{
+	/** ּ   */
+	static final int SIMPLE = 0;
+	static final int IMMEDIATE = 1;
+	static final int INDIRECT = 2;
+	static final int LITERAL = 3;
+
+	/**  ̸. ڿ  ġ  ȣ */
+	private static final String REGISTERS = "AXLBST";
+
+	// ּ  
+	final int mode;
+	// ɺ Ǵ ͷ ̸   key (SymbolIndex.pack). immediate   null
+	final String name;
+	final long key;
+	// immediate  ο  
+	final boolean constant;
+	final int value;
+	// ι° ǿڰ 'X'  (indexed addressing)
+	final boolean indexed;
+	// ǿڵ  ̸   ȣ. Ͱ ƴ϶ 0
+	final int register1, register2;
+
+	/**
+	 * ǿڸ мѴ.
+	 * 
+	 * @param operand: ','  ǿڵ
+	 */
+	private Operand(String[] operand)
+	{
+		String first = operand[0];
+		int start = 1;
+
+		// ù ڷ ּ   
+		if (first.startsWith("#"))
+			mode = IMMEDIATE;
+		else if (first.startsWith("@"))
+			mode = INDIRECT;
+		else if (first.startsWith("="))
+			mode = LITERAL;
+		else
+		{
+			mode = SIMPLE;
+			start = 0;
+		}
+
+		// immediate addressing ǿڰ ڷθ ̷ ִٸ 
+		constant = mode == IMMEDIATE && isNumber(first, start);
+		value = constant ? Integer.parseInt(first.substring(start)) : 0;
+		name = constant ? null : first.substring(start);
+		key = constant ? SymbolIndex.NOT_PACKED : SymbolIndex.pack(name);
+
+		indexed = operand.length > 1 && operand[1].equals("X");
+		register1 = registerNumber(first);
+		register2 = operand.length > 1 ? registerNumber(operand[1]) : 0;
+	}
+
+	/**
+	 * ǿڸ мѴ.
+	 * 
+	 * @param operand: ','  ǿڵ
+	 * @return: м . ǿڰ ٸ null
+	 */
+	static Operand parse(String[] operand)
+	{
+		if (operand == null || operand[0] == null)
+			return null;
+
+		return new Operand(operand);
+	}
+
+	/**
+	 * ڿ start ġ  int  10 ȮѴ.
+	 */
+	private static boolean isNumber(String string, int start)
+	{
+		if (string.length() == start || string.length() - start > 9)
+			return false;
+
+		for (int i = start; i < string.length(); i++)
+			if (string.charAt(i) < '0' || string.charAt(i) > '9')
+				return false;
+
+		return true;
+	}
+
+	/**
+	 *  ̸ ȣ Ѵ.
+	 * 
+	 * @param register:  ̸
+	 * @return:  ȣ.  ̸ ƴ϶ 0
+	 */
+	private static int registerNumber(String register)
+	{
+		return register.length() == 1 ? Math.max(REGISTERS.indexOf(register.charAt(0)), 0) : 0;
+	}
+}
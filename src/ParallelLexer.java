@@ -0,0 +1,77 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ҽ ڵ ε  thread  Token мϴ Ŭ. <br>
+ * Token м ּҰ ϰ line ϳ ̷Ƿ, ε  ũ chunk  ÿ м  ִ. <br>
+ * м Token ּҰ  pass1  Token byteSize ʷ ذ Ѵ.
+ */
+public class ParallelLexer
+{
+	/**   ϳ thread мϴ   */
+	static final int CHUNK_SIZE = 16384;
+
+	/**
+	 * ε chunk   ڷ  thread ŭ ÿ мѴ.
+	 * 
+	 * @param lines: м ҽ ڵ ε
+	 * @param instTable: Token м  instruction table
+	 * @param threads: м  thread 
+	 * @param keepComments: ּ  
+	 * @param useParseCache: parse cache  
+	 * @return:  ο  Token. ΰ   ȴ.
+	 */
+	public static Token[] tokenize(final List<String> lines, final InstTable instTable, int threads,
+			final boolean keepComments, final boolean useParseCache)
+	{
+		// tokens: м   迭
+		// executor: chunk м thread pool
+		// futures:  chunk м 
+		final Token[] tokens = new Token[lines.size()];
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+
+		// ε CHUNK_SIZE   thread pool м ñ
+		//  chunk  迭  ٸ  Ƿ ȭ ʿ 
+		for (int start = 0; start < lines.size(); start += CHUNK_SIZE)
+		{
+			final int from = start;
+			final int to = Math.min(start + CHUNK_SIZE, lines.size());
+
+			futures.add(executor.submit(new Runnable()
+			{
+				public void run()
+				{
+					for (int i = from; i < to; i++)
+						tokens[i] = ParseCache.getToken(lines.get(i), instTable, null, keepComments, useParseCache);
+				}
+			}));
+		}
+
+		try
+		{
+			//  chunk м   ٸ
+			for (Future<?> future : futures)
+				future.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("lexing interrupted", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new IllegalStateException("lexing failed", e.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		return tokens;
+	}
+}
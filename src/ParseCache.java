@@ -0,0 +1,150 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  ҽ ڵ  ٽ м ʵ κ м  ϴ ĳ. <br>
+ *  ڵ忡 "\tCLEAR\tX", "\tRSUB" ó Ȱ  ݺǴµ, м   븸  ּҿʹ
+ * ϹǷ  ڿ key м Token ϳ (template) Ѵ. <br>
+ *   Token  Ͽ Ƿ label, operator, operand 迭, ̸ м Operand Բ ϰ,
+ * Token    ּ, object code relaxation  ٲ  ִ flag, ũ̴. <br>
+ * μ ü ϳ ϸ  thread ÿ   ִ. ּ ϴ ΰ ٸ Assembler
+ * Բ   ֵ  ּ  κ  Ѵ. (ּ  ε key ) <br>
+ * <br>
+ * ̺ ִ  κ   Ƿ ̺  θ ϸ, ϴ   MAX_ENTRIES
+ *  ʴ´.
+ */
+public class ParseCache
+{
+	/**   ִ  ִ  */
+	static final int MAX_ENTRIES = 1 << 16;
+
+	/**  ڿ key м  Token ϴ . ּ     */
+	private static final ConcurrentHashMap<String, Token> cache = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<String, Token> compactCache = new ConcurrentHashMap<>();
+
+	// ĳ    Ƚ,    ڿ 迭 Ʈ  ()
+	private static final AtomicLong hitCount = new AtomicLong();
+	private static final AtomicLong missCount = new AtomicLong();
+	private static final AtomicLong savedBytes = new AtomicLong();
+
+	/**
+	 *  м Token .   м  ִٸ м ʰ  reuse Ѵ.
+	 * 
+	 * @param line: м ҽ ڵ 
+	 * @param instTable: Token м  instruction table
+	 * @param reuse:     Token. null̸  Token 
+	 * @param keepComments: ּ  . ּ      Ѵ
+	 * @param useCache: ĳø  . false ׻  мѴ
+	 * @return: м Token.    reuse. ϵ Token ʵ带 ٲپ   
+	 */
+	public static Token getToken(String line, InstTable instTable, Token reuse, boolean keepComments, boolean useCache)
+	{
+		// ̺  θ 
+		if (!useCache || line.isEmpty() || line.charAt(0) != '\t')
+			return new Token(line, instTable, keepComments);
+
+		//  instruction table м  ִٸ 
+		ConcurrentHashMap<String, Token> templates = keepComments ? cache : compactCache;
+		Token template = templates.get(line);
+		if (template != null && template.instTable == instTable)
+		{
+			hitCount.incrementAndGet();
+			savedBytes.addAndGet(estimateSize(template));
+
+			return reuse == null ? new Token(template, instTable) : reuse.copy(template, instTable);
+		}
+
+		//   мϿ  ϰ 纻 
+		missCount.incrementAndGet();
+		template = new Token(line, instTable, keepComments);
+		if (templates.size() < MAX_ENTRIES || templates.containsKey(line))
+			templates.put(line, template);
+
+		return reuse == null ? new Token(template, instTable) : reuse.copy(template, instTable);
+	}
+
+	/**
+	 *  Ͽ  ʾƵ  ڿ, 迭, Operand ü ũ⸦ Ѵ.<br>
+	 * 64Ʈ JVM compressed oops, 1Ʈ  ڿ ̴.
+	 * 
+	 * @param token:  Token
+	 * @return: Ʈ 
+	 */
+	private static long estimateSize(Token token)
+	{
+		long size = stringSize(token.label) + stringSize(token.operator) + stringSize(token.comment);
+
+		if (token.operand != null)
+		{
+			size += align(16 + 4 * token.operand.length);
+			for (String operand : token.operand)
+				size += stringSize(operand);
+		}
+
+		// Operand ü  ̸ ڿ
+		if (token.parsedOperand != null)
+			size += 48 + stringSize(token.parsedOperand.name);
+
+		return size;
+	}
+
+	/**
+	 * String ü  迭 ũ⸦ Ѵ. null̰ų  ڿ̸ 0
+	 */
+	private static long stringSize(String string)
+	{
+		return string == null || string.isEmpty() ? 0 : 24 + align(16 + string.length());
+	}
+
+	/**
+	 * 8Ʈ  øѴ.
+	 */
+	private static long align(long size)
+	{
+		return (size + 7) & ~7L;
+	}
+
+	/**
+	 * ĳ  Ƚ Ѵ.
+	 */
+	public static long getHitCount()
+	{
+		return hitCount.get();
+	}
+
+	/**
+	 * ĳ (  м) Ƚ Ѵ.  ʴ ̺ ִ   ʴ´.
+	 */
+	public static long getMissCount()
+	{
+		return missCount.get();
+	}
+
+	/**
+	 * ĳ    ڿ 迭  Ʈ  Ѵ.
+	 */
+	public static long getSavedBytes()
+	{
+		return savedBytes.get();
+	}
+
+	/**
+	 * ϰ ִ   Ѵ.
+	 */
+	public static int getSize()
+	{
+		return cache.size() + compactCache.size();
+	}
+
+	/**
+	 * ĳø  Ƚ ʱȭѴ.
+	 */
+	public static void clear()
+	{
+		cache.clear();
+		compactCache.clear();
+		hitCount.set(0);
+		missCount.set(0);
+		savedBytes.set(0);
+	}
+}
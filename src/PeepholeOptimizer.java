@@ -0,0 +1,164 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * pass1  section TokenTable ʿ ɾ ã  peephole ȭ. <br>
+ * ּ ϰ ٷ ̾ ɾ鸸 ϸ, ̺  ɾ ٸ  б   Ƿ  ʴ´. <br>
+ *  ɾ . <br>
+ * 1)  ּҿ  load ٷ  store, store ٷ  load, load ٷ   load (: STA X / LDA X, LDA X / LDA X)
+ * <br>
+ * 2) ٷ  ɾ бϴ J, JEQ, JGT, JLT <br>
+ * 3) ٷ  񱳿   ɾ (: COMP #0 / COMP #0).  ̿ ͳ condition code ٲ ʾǷ 
+ * . <br>
+ * <br>
+ * ɾ   ū ּҰ ٲǷ,  ڿ section ּҿ ̺ ٽ ؾ Ѵ.
+ */
+public class PeepholeOptimizer
+{
+	/** load ɾ  ͸ ϴ store ɾ */
+	static final HashMap<String, String> LOAD_STORE = new HashMap<>();
+	static
+	{
+		LOAD_STORE.put("LDA", "STA");
+		LOAD_STORE.put("LDB", "STB");
+		LOAD_STORE.put("LDCH", "STCH");
+		LOAD_STORE.put("LDL", "STL");
+		LOAD_STORE.put("LDS", "STS");
+		LOAD_STORE.put("LDT", "STT");
+		LOAD_STORE.put("LDX", "STX");
+	}
+	/** ٷ  ɾ бϴ    ִ б ɾ */
+	static final HashSet<String> JUMPS = new HashSet<>(Arrays.asList("J", "JEQ", "JGT", "JLT"));
+
+	// ݱ  ɾ  Ʈ 
+	int removedInstructions;
+	int removedBytes;
+
+	/**
+	 * ū ̺      ִ ɾ .
+	 * 
+	 * @param tokenTable: ȭ section ū ̺
+	 * @param symTab: section ɺ ̺ (б  ּ Ȯο)
+	 * @return:  ɾ ִٸ true
+	 */
+	public boolean optimize(TokenTable tokenTable, SymbolTable symTab)
+	{
+		// remove: ū  
+		// previous: ٷ  ɾ (ּ )
+		boolean[] remove = new boolean[tokenTable.getSize()];
+		boolean removed = false;
+		Token previous = null;
+
+		for (int j = 0; j < tokenTable.getSize(); j++)
+		{
+			Token current = tokenTable.getToken(j);
+
+			// ּ ǳʶ
+			if (current.label.equals("."))
+				continue;
+
+			// ٷ  ɾ бϴ 
+			if (isJumpToNext(current, tokenTable, j, symTab))
+				remove[j] = true;
+			// ٷ  ɾ  ʿ  
+			else if (previous != null && current.label.isEmpty() && isRedundantAfter(previous, current))
+				remove[j] = true;
+
+			if (remove[j])
+			{
+				removedInstructions++;
+				removedBytes += current.byteSize;
+				removed = true;
+			}
+			else
+				previous = current;
+		}
+
+		if (removed)
+			tokenTable.removeTokens(remove);
+
+		return removed;
+	}
+
+	/**
+	 * ٷ  ɾ ڿ  ɾ ƹ ȿ  ȮѴ.
+	 * 
+	 * @param previous: ٷ  ɾ
+	 * @param current:  ɾ
+	 * @return: ȿ ٸ true
+	 */
+	private boolean isRedundantAfter(Token previous, Token current)
+	{
+		if (previous.operator == null || current.operator == null || previous.operand == null || current.operand == null)
+			return false;
+
+		//  ǿڿ   񱳴 condition code ̹ Ǿ Ƿ ʿ 
+		if ((current.operator.equals("COMP") || current.operator.equals("COMPR"))
+				&& current.operator.equals(previous.operator) && sameOperand(previous, current))
+			return true;
+
+		//  ,  ּҿ  load/store ְ  load ݺ
+		// load  store   ٽ , store  load load   load ̹ Ϳ ִ  
+		if (!isSimpleMemoryOperand(previous) || !isSimpleMemoryOperand(current) || !sameOperand(previous, current))
+			return false;
+
+		return (LOAD_STORE.containsKey(current.operator) && current.operator.equals(previous.operator))
+				|| current.operator.equals(LOAD_STORE.get(previous.operator))
+				|| previous.operator.equals(LOAD_STORE.get(current.operator));
+	}
+
+	/**
+	 *  ɾ ٷ  ɾ бϴ ȮѴ.
+	 * 
+	 * @param current:  ɾ
+	 * @param tokenTable: ū ̺
+	 * @param index:  ɾ ġ
+	 * @param symTab: ɺ ̺
+	 * @return: ٷ  ɾ бѴٸ true
+	 */
+	private boolean isJumpToNext(Token current, TokenTable tokenTable, int index, SymbolTable symTab)
+	{
+		if (current.operator == null || !JUMPS.contains(current.operator) || !current.label.isEmpty()
+				|| current.operand == null || !isSimpleMemoryOperand(current))
+			return false;
+
+		//  ɾ(ּ ) ã
+		int next = index + 1;
+		while (next < tokenTable.getSize() && tokenTable.getToken(next).label.equals("."))
+			next++;
+
+		if (next == tokenTable.getSize())
+			return false;
+
+		// б   ɾ ּ̰,  ɾ  ɾ ٷ ڿ ִ 
+		int target = symTab.search(current.operand[0]);
+		return target >= 0 && target == current.location + current.byteSize
+				&& target == tokenTable.getToken(next).location && tokenTable.getToken(next).byteSize > 0;
+	}
+
+	/**
+	 * ɾ index  simple addressing 3 ɾ ȮѴ.
+	 * 
+	 * @param token: Ȯ ɾ
+	 * @return: ׷ٸ true
+	 */
+	private boolean isSimpleMemoryOperand(Token token)
+	{
+		return token.byteSize == 3 && token.operand.length == 1
+				&& token.getFlag(TokenTable.nFlag | TokenTable.iFlag) == (TokenTable.nFlag | TokenTable.iFlag)
+				&& !token.operand[0].startsWith("=");
+	}
+
+	/**
+	 *  ɾ ǿڰ  ȮѴ.
+	 * 
+	 * @param first: ù° ɾ
+	 * @param second: ι° ɾ
+	 * @return: ٸ true
+	 */
+	private boolean sameOperand(Token first, Token second)
+	{
+		return Arrays.equals(first.operand, second.operand);
+	}
+}
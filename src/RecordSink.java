@@ -0,0 +1,158 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *   Ʈ α׷ ڵ(H, D, R, T, M, E)    پ ޴ . <br>
+ * Assembler.assemble Ѱָ pass2    ٸ ʰ ڵ尡   ޵ȴ. <br>
+ * , ޸, äη ϴ  ϸ, ϰ ä  printObjectCode  End record ڿ   ִ´.
+ */
+public interface RecordSink
+{
+	/**
+	 * ڵ   ޴´.
+	 * 
+	 * @param record: ٹٲ ڸ   ڵ
+	 * @throws IOException: ڵ带    
+	 */
+	void accept(String record) throws IOException;
+
+	/**
+	 *  ̻ ڵ尡  ˸  ڿ Ѵ.
+	 * 
+	 * @throws IOException:     
+	 */
+	void close() throws IOException;
+
+	/**
+	 * ڵ Ͽ  sink.
+	 */
+	public static class FileSink implements RecordSink
+	{
+		BufferedWriter writer;
+
+		/**
+		 *  . ̹ ִ  . ̸ ".gz"  Ͽ .
+		 * 
+		 * @param fileName:   ̸
+		 * @throws IOException:     
+		 */
+		public FileSink(String fileName) throws IOException
+		{
+			writer = CompressedFiles.openWriter(fileName);
+		}
+
+		@Override
+		public void accept(String record) throws IOException
+		{
+			writer.write(record);
+			writer.newLine();
+
+			// end record ڿ   ߰
+			if (record.charAt(0) == 'E')
+				writer.newLine();
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			writer.close();
+		}
+	}
+
+	/**
+	 * ڵ ޸ Ʈ  sink.
+	 */
+	public static class MemorySink implements RecordSink
+	{
+		List<String> records = new ArrayList<>();
+
+		@Override
+		public void accept(String record)
+		{
+			records.add(record);
+		}
+
+		@Override
+		public void close()
+		{
+		}
+
+		/**
+		 * ݱ  ڵ Ѵ.
+		 */
+		public List<String> getRecords()
+		{
+			return records;
+		}
+	}
+
+	/**
+	 * ڵ ASCII Ʈ ٲپ ä(, ,  )  sink. <br>
+	 * ڵ ۿ Ҵٰ ۰  ų End record  äο . ä close Բ ݴ´.
+	 */
+	public static class ChannelSink implements RecordSink
+	{
+		/** äο     ũ */
+		static final int BUFFER_SIZE = 64 * 1024;
+
+		WritableByteChannel channel;
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		// ڵ ̿  ٹٲ 
+		byte[] separator = System.lineSeparator().getBytes();
+
+		/**
+		 * ڵ带  ä ũѴ.
+		 * 
+		 * @param channel: ڵ带  ä
+		 */
+		public ChannelSink(WritableByteChannel channel)
+		{
+			this.channel = channel;
+		}
+
+		@Override
+		public void accept(String record) throws IOException
+		{
+			// ڵ ٹٲ ۿ    
+			int size = record.length() + separator.length * 2;
+			if (buffer.remaining() < size)
+				flush();
+			if (buffer.capacity() < size)
+				buffer = ByteBuffer.allocate(size);
+
+			// ڵ ASCII ڷθ ̷ 
+			for (int i = 0; i < record.length(); i++)
+				buffer.put((byte) record.charAt(i));
+			buffer.put(separator);
+
+			// end record ڿ   ߰ϰ,  Ƿ ޴ ʿ ٷ 
+			if (record.charAt(0) == 'E')
+			{
+				buffer.put(separator);
+				flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			flush();
+			channel.close();
+		}
+
+		/**
+		 * ۿ  Ʈ  äο .
+		 */
+		private void flush() throws IOException
+		{
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+		}
+	}
+}
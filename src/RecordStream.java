@@ -0,0 +1,204 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ *   thread ϸ鼭  Ʈ α׷ ڵ带 ʷ  д(pull) iterator. <br>
+ * ڵ ũⰡ  queue  ޵ǹǷ, д   queue     ٸ ȴ
+ * (backpressure).  ޸𸮿 ̴ ڵ  queue ũ⸦  ,   ڵ带 д   
+ * object code . <br>
+ *  б  ׸η close ȣϿ  thread ߴܽѾ Ѵ.
+ * <br>
+ * <br>
+ *   : <br>
+ * RecordStream records = assembler.stream(64); <br>
+ * while (records.hasNext()) send(records.next()); <br>
+ * records.close();
+ */
+public class RecordStream implements Iterator<String>, AutoCloseable
+{
+	/**  ̻ ڵ尡  Ÿ ǥ.  ƴ ü Ѵ */
+	static final String END = new String("");
+
+	//  thread ڵ带 ִ queue
+	BlockingQueue<String> queue;
+	// ڵ带   thread
+	Thread producer;
+	//  thread ߻ 
+	AtomicReference<Throwable> failure = new AtomicReference<>();
+	//   ڵ.  queue  ʾҴٸ null
+	String nextRecord;
+	// ݱ  ڵ 
+	long recordCount;
+
+	/**
+	 * queue   thread Ѵ.
+	 *
+	 * @param assembler: Է  ִ 
+	 * @param capacity: queue   ִ ڵ ִ 
+	 */
+	RecordStream(final Assembler assembler, int capacity)
+	{
+		queue = new ArrayBlockingQueue<>(capacity);
+
+		producer = new Thread(new Runnable()
+		{
+			public void run()
+			{
+				try
+				{
+					assembler.assemble(new QueueSink());
+				}
+				catch (Throwable e)
+				{
+					// close ߴܵ 찡 ƴ϶ д ʿ ˸
+					if (!Thread.currentThread().isInterrupted())
+						failure.set(e);
+				}
+				finally
+				{
+					//  쿡 д  ٸ ʵ  ǥø 
+					// queue   ִٸ д  ڸ   ٸ
+					try
+					{
+						if (!Thread.currentThread().isInterrupted())
+							queue.put(END);
+					}
+					catch (InterruptedException e)
+					{
+						// close ߴܵ 
+					}
+				}
+			}
+		}, "record-stream");
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	/**
+	 *  ڵ尡 ִ ȮѴ.  ڵ尡   ٸ  ִ.
+	 *
+	 * @throws IllegalStateException:  ߰ų ٸ  ߴܵ 
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		if (nextRecord == null)
+		{
+			try
+			{
+				nextRecord = queue.take();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("interrupted while waiting for a record", e);
+			}
+		}
+
+		//  ǥô   · ξ ٽ ȣص false 
+		if (nextRecord == END)
+		{
+			if (failure.get() != null)
+				throw new IllegalStateException("assembly failed", failure.get());
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 *  ڵ带 Ѵ.
+	 *
+	 * @return: ٹٲ ڸ   ڵ
+	 * @throws NoSuchElementException:  ̻ ڵ尡  
+	 */
+	@Override
+	public String next()
+	{
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		String record = nextRecord;
+		nextRecord = null;
+		recordCount++;
+		return record;
+	}
+
+	/**
+	 *  ڵ  sink ű. sink  ʴ´.
+	 *
+	 * @param sink: ڵ带  
+	 * @return: ű ڵ 
+	 * @throws IOException: sink    
+	 */
+	public long drainTo(RecordSink sink) throws IOException
+	{
+		long count = 0;
+		while (hasNext())
+		{
+			sink.accept(next());
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * ݱ  ڵ  Ѵ.
+	 */
+	public long getRecordCount()
+	{
+		return recordCount;
+	}
+
+	/**
+	 * б⸦ ׸д.  thread   ̶ ߴܽŰ   ٸ.
+	 */
+	@Override
+	public void close()
+	{
+		producer.interrupt();
+
+		try
+		{
+			producer.join();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		queue.clear();
+		nextRecord = END;
+	}
+
+	/**
+	 *   ڵ带 queue ִ sink. queue   ڸ   ٸ.
+	 */
+	class QueueSink implements RecordSink
+	{
+		@Override
+		public void accept(String record) throws IOException
+		{
+			try
+			{
+				queue.put(record);
+			}
+			catch (InterruptedException e)
+			{
+				// interrupt ǥø   thread ߴܵ    ְ 
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("record stream closed");
+			}
+		}
+
+		@Override
+		public void close()
+		{
+		}
+	}
+}
@@ -0,0 +1,368 @@
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * pass1  section ū ̺ ӽ Ͽ   Ű heap , pass2 ʿ  ٽ о Ŭ. <br>
+ * ޸  Ѵ ū Է¿ ϼ section pass2 heap  ʵ Ѵ.
+ * <br>
+ * <br>
+ * section   block   ̾  ( DataOutput ) : <br>
+ * 1) symbol table block : ɺ ̺. symtab ¿  block д´. <br>
+ * 2) token block : ͷ ̺, ܺ  ̺, ڿ pool, ū  (ּ, ũ, nixbpe, label, operator, operand ȣ) <br>
+ * 3) modification block : modification  ̺ <br>
+ * ū ּ pass2  Ƿ  ʴ´.
+ */
+public class SectionSpillFile
+{
+	// ӽ ϰ Ͽ  ũ
+	File file;
+	RandomAccessFile data;
+	long size;
+
+	// section ȣ ̸ block ġ. offsets[i] = { symbol table, token, modification,  }
+	ArrayList<String> names;
+	ArrayList<long[]> offsets;
+
+	/**
+	 * ӽ  .  close() α׷   .
+	 * 
+	 * @throws IOException: ӽ     
+	 */
+	public SectionSpillFile() throws IOException
+	{
+		file = File.createTempFile("sections", ".spill");
+		file.deleteOnExit();
+		data = new RandomAccessFile(file, "rw");
+		names = new ArrayList<>();
+		offsets = new ArrayList<>();
+	}
+
+	/**
+	 *  ȣ section   Ѵ. section 0 ʷ ؾ Ѵ.
+	 * 
+	 * @param tokenTable: section ū ̺. ũ ɺ, ͷ, ܺ  ̺ Բ 
+	 * @param modifTab: section modification  ̺
+	 * @throws IOException:     
+	 */
+	public void spill(TokenTable tokenTable, SymbolTable modifTab) throws IOException
+	{
+		long[] blocks = new long[4];
+
+		blocks[0] = size;
+		writeBlock(out -> writeTable(out, tokenTable.symTab));
+		blocks[1] = size;
+		writeBlock(out -> writeTokens(out, tokenTable));
+		blocks[2] = size;
+		writeBlock(out -> writeTable(out, modifTab));
+		blocks[3] = size;
+
+		names.add(tokenTable.getToken(0).label);
+		offsets.add(blocks);
+	}
+
+	/**
+	 *  section ū ̺ ٽ . ɺ, ͷ, ܺ  ̺ Բ о ũѴ.
+	 * 
+	 * @param index: section ȣ
+	 * @param instTable: ū鿡 ũ instruction table
+	 * @return: ū ̺
+	 * @throws IOException:     
+	 */
+	public TokenTable readTokenTable(int index, InstTable instTable) throws IOException
+	{
+		SymbolTable symTab = readSymbolTable(index);
+		DataInputStream in = readBlock(index, 1);
+
+		SymbolTable litTab = readTable(in);
+		SymbolTable extTab = readTable(in);
+		TokenTable tokenTable = new TokenTable(symTab, litTab, extTab, instTable);
+
+		// ڿ pool
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++)
+			strings[i] = in.readUTF();
+
+		int count = in.readInt();
+		for (int i = 0; i < count; i++)
+		{
+			Token token = new Token(instTable);
+			token.location = in.readInt();
+			token.byteSize = in.readInt();
+			token.nixbpe = in.readChar();
+			token.label = readString(in, strings);
+			token.operator = readString(in, strings);
+
+			int operandCount = in.readInt();
+			if (operandCount >= 0)
+			{
+				token.operand = new String[operandCount];
+				for (int j = 0; j < operandCount; j++)
+					token.operand[j] = readString(in, strings);
+				token.parsedOperand = Operand.parse(token.operand);
+			}
+
+			tokenTable.addToken(token);
+		}
+
+		return tokenTable;
+	}
+
+	/**
+	 *  section ɺ ̺ д´.
+	 * 
+	 * @param index: section ȣ
+	 * @return: ɺ ̺
+	 * @throws IOException:     
+	 */
+	public SymbolTable readSymbolTable(int index) throws IOException
+	{
+		return readTable(readBlock(index, 0));
+	}
+
+	/**
+	 *  section modification  ̺ д´.
+	 * 
+	 * @param index: section ȣ
+	 * @return: modification  ̺
+	 * @throws IOException:     
+	 */
+	public SymbolTable readModifTable(int index) throws IOException
+	{
+		return readTable(readBlock(index, 2));
+	}
+
+	/**
+	 * ش ȣ section Ǿ ִ ȮѴ.
+	 * 
+	 * @param index: section ȣ
+	 * @return: Ǿ ִٸ true
+	 */
+	public boolean contains(int index)
+	{
+		return index < offsets.size();
+	}
+
+	/**
+	 *  section ̸ Ѵ.
+	 * 
+	 * @param index: section ȣ
+	 * @return: section ̸
+	 */
+	public String getSectionName(int index)
+	{
+		return names.get(index);
+	}
+
+	/**
+	 *  section  Ѵ.
+	 * 
+	 * @return: section 
+	 */
+	public int getSectionCount()
+	{
+		return offsets.size();
+	}
+
+	/**
+	 * Ͽ  ũ⸦ Ѵ.
+	 * 
+	 * @return: Ʈ  ũ
+	 */
+	public long getSize()
+	{
+		return size;
+	}
+
+	/**
+	 *  ݰ .
+	 */
+	public void close()
+	{
+		try
+		{
+			data.close();
+		}
+		catch (IOException e)
+		{
+			System.err.println(e);
+		}
+
+		file.delete();
+	}
+
+	/**
+	 * block ϳ ޸𸮿     .
+	 * 
+	 * @param writer: block   Լ
+	 * @throws IOException:     
+	 */
+	private void writeBlock(BlockWriter writer) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		writer.write(out);
+		out.flush();
+
+		data.seek(size);
+		data.write(bytes.toByteArray());
+		size += bytes.size();
+	}
+
+	/**
+	 *  block ϳ д´.
+	 * 
+	 * @param index: section ȣ
+	 * @param block: block ȣ (0: symbol table, 1: token, 2: modification)
+	 * @return: block   stream
+	 * @throws IOException:     
+	 */
+	private DataInputStream readBlock(int index, int block) throws IOException
+	{
+		long[] blocks = offsets.get(index);
+		byte[] bytes = new byte[(int) (blocks[block + 1] - blocks[block])];
+
+		data.seek(blocks[block]);
+		data.readFully(bytes);
+
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+
+	/**
+	 * ̺ ɺ, ּ,  Ʈ ũ⸦ .  Ʈ ũⰡ  ̺ 밪 ɺ θ .
+	 * 
+	 * @param out:  stream
+	 * @param table:  ̺
+	 * @throws IOException:    
+	 */
+	private static void writeTable(DataOutputStream out, SymbolTable table) throws IOException
+	{
+		// modification  ̺  Ʈ ũ⸦ 
+		boolean modif = !table.modifSizeList.isEmpty();
+
+		out.writeInt(table.getSize());
+		out.writeBoolean(modif);
+		for (int i = 0; i < table.getSize(); i++)
+		{
+			out.writeUTF(table.getSymbol(i));
+			out.writeInt(table.getLocation(i));
+			if (modif)
+				out.writeInt(table.getModifSize(i));
+			else
+				out.writeBoolean(table.absoluteSymbols.get(i));
+		}
+	}
+
+	/**
+	 * writeTable  ̺ д´.
+	 * 
+	 * @param in:  stream
+	 * @return:  ̺
+	 * @throws IOException:    
+	 */
+	private static SymbolTable readTable(DataInputStream in) throws IOException
+	{
+		SymbolTable table = new SymbolTable();
+		int count = in.readInt();
+		boolean modif = in.readBoolean();
+
+		for (int i = 0; i < count; i++)
+		{
+			String symbol = in.readUTF();
+			int location = in.readInt();
+
+			if (modif)
+				table.putModifSymbol(symbol, location, in.readInt());
+			else
+			{
+				table.putSymbol(symbol, location);
+				if (in.readBoolean())
+					table.markAbsolute(symbol);
+			}
+		}
+
+		return table;
+	}
+
+	/**
+	 * ͷ, ܺ  ̺ ū  . ū ڿ section ȿ   ϰ ȣ Ѵ.
+	 * 
+	 * @param out:  stream
+	 * @param tokenTable:  ū ̺
+	 * @throws IOException:    
+	 */
+	private static void writeTokens(DataOutputStream out, TokenTable tokenTable) throws IOException
+	{
+		writeTable(out, tokenTable.litTab);
+		writeTable(out, tokenTable.extTab);
+
+		// ڿ pool   
+		ArrayList<String> strings = new ArrayList<>();
+		HashMap<String, Integer> stringIds = new HashMap<>();
+		int count = tokenTable.getSize();
+		for (int i = 0; i < count; i++)
+		{
+			Token token = tokenTable.getToken(i);
+			intern(token.label, strings, stringIds);
+			intern(token.operator, strings, stringIds);
+			if (token.operand != null)
+				for (String operand : token.operand)
+					intern(operand, strings, stringIds);
+		}
+
+		out.writeInt(strings.size());
+		for (String string : strings)
+			out.writeUTF(string);
+
+		out.writeInt(count);
+		for (int i = 0; i < count; i++)
+		{
+			Token token = tokenTable.getToken(i);
+			out.writeInt(token.location);
+			out.writeInt(token.byteSize);
+			out.writeChar(token.nixbpe);
+			out.writeInt(token.label == null ? -1 : stringIds.get(token.label));
+			out.writeInt(token.operator == null ? -1 : stringIds.get(token.operator));
+
+			// operand ٸ -1
+			if (token.operand == null)
+			{
+				out.writeInt(-1);
+				continue;
+			}
+
+			out.writeInt(token.operand.length);
+			for (String operand : token.operand)
+				out.writeInt(operand == null ? -1 : stringIds.get(operand));
+		}
+	}
+
+	/**
+	 * ڿ pool ߰Ѵ. ̹ ְų null̶ ߰ ʴ´.
+	 */
+	private static void intern(String string, ArrayList<String> strings, HashMap<String, Integer> stringIds)
+	{
+		if (string != null && !stringIds.containsKey(string))
+		{
+			stringIds.put(string, strings.size());
+			strings.add(string);
+		}
+	}
+
+	/**
+	 * ڿ ȣ о pool ڿ Ѵ. ȣ -1̸ null.
+	 */
+	private static String readString(DataInputStream in, String[] strings) throws IOException
+	{
+		int id = in.readInt();
+		return id < 0 ? null : strings[id];
+	}
+
+	/**
+	 * block  stream  Լ
+	 */
+	private interface BlockWriter
+	{
+		void write(DataOutputStream out) throws IOException;
+	}
+}
@@ -0,0 +1,310 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ū Է  (START, CSECT)  (shard)   worker JVM μ鿡 ÿ ϰ,
+ *  Ʈ α׷ symbol table ҽ  ̾ ̴ Ŭ. <br>
+ * ǵ  ɺ modification recordθ ϹǷ pass1 pass2      ִ.
+ *  ӵ ǵ   ϵ  , workerԴ  ù  ȣ ˷־ ù ǿ
+ * ٴ End record  ּұ  μ    .  ù  ȣ ˷־ source map
+ *  ȣ  ü Է  ǰ Ѵ. <br>
+ * worker  java  , class path, heap  "Assembler -worker" Ѵ.
+ */
+public class ShardCoordinator
+{
+	//   Է ϰ worker 
+	String inputFile;
+	int workers;
+	// worker ״ Ѱ  ɼ (-relax )
+	List<String> options;
+
+	// , worker , ̾ ̱⿡ ɸ ð (nano second)
+	long splitTime, workerTime, mergeTime;
+	//    
+	int sectionCount, shardCount;
+	//  ù  ü α׷  ȣ
+	List<Integer> sectionOffsets = new ArrayList<>();
+	//  ù    
+	List<Integer> lineOffsets = new ArrayList<>();
+
+	/**
+	 *   Է° worker  Ѵ.
+	 * 
+	 * @param inputFile:  Է 
+	 * @param workers: ÿ  worker μ 
+	 * @param options: worker Ѱ  ɼ
+	 */
+	public ShardCoordinator(String inputFile, int workers, List<String> options)
+	{
+		this.inputFile = inputFile;
+		this.workers = workers;
+		this.options = options;
+	}
+
+	/**
+	 * Է  worker鿡    ϵ .
+	 * 
+	 * @param objectFile: Ʈ α׷  
+	 * @param symtabFile: symbol table  
+	 * @throws IOException:  аų   ų worker  
+	 */
+	public void run(String objectFile, String symtabFile) throws IOException
+	{
+		run(objectFile, symtabFile, null);
+	}
+
+	/**
+	 * Է  worker鿡    ϵ source map  . source map  worker
+	 * ɼǿ -srcmap ־ Ѵ.
+	 * 
+	 * @param objectFile: Ʈ α׷  
+	 * @param symtabFile: symbol table  
+	 * @param sourceMapFile: source map  . null̸  
+	 * @throws IOException:  аų   ų worker  
+	 */
+	public void run(String objectFile, String symtabFile, String sourceMapFile) throws IOException
+	{
+		Path directory = Files.createTempDirectory("sicxe-shards");
+		List<File> shardFiles = new ArrayList<>();
+
+		try
+		{
+			long startTime = System.nanoTime();
+			List<String> lines = readLines(inputFile);
+			List<Integer> boundaries = split(lines);
+			for (int i = 0; i + 1 < boundaries.size(); i++)
+			{
+				File shard = new File(directory.toFile(), "shard" + i);
+				writeLines(shard, lines.subList(boundaries.get(i), boundaries.get(i + 1)));
+				shardFiles.add(shard);
+			}
+			splitTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			runWorkers(shardFiles);
+			workerTime = System.nanoTime() - startTime;
+
+			//   ҽ  ̾ 
+			startTime = System.nanoTime();
+			concatenate(shardFiles, ".obj", objectFile);
+			concatenate(shardFiles, ".sym", symtabFile);
+			if (sourceMapFile != null)
+			{
+				List<File> mapFiles = new ArrayList<>();
+				for (File shard : shardFiles)
+					mapFiles.add(new File(shard.getPath() + ".map"));
+				SourceMap.concatenate(mapFiles, sourceMapFile);
+			}
+			mergeTime = System.nanoTime() - startTime;
+		}
+		finally
+		{
+			for (File file : directory.toFile().listFiles())
+				file.delete();
+			directory.toFile().delete();
+		}
+	}
+
+	/**
+	 * ε  迡 worker    .   pass1  START, CSECT  ̴.
+	 * 
+	 * @param lines: Է ε
+	 * @return:    ȣ.    
+	 */
+	private List<Integer> split(List<String> lines)
+	{
+		// sections: Ǻ   ȣ
+		List<Integer> sections = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++)
+			if (lines.get(i).contains("START") || lines.get(i).contains("CSECT"))
+				sections.add(i);
+		if (sections.isEmpty() || sections.get(0) != 0)
+			sections.add(0, 0);
+		sectionCount = sections.size();
+
+		// տ  ٰ     ε      ̸   Ѿ
+		List<Integer> boundaries = new ArrayList<>();
+		boundaries.add(0);
+		sectionOffsets.add(0);
+		lineOffsets.add(0);
+		int shards = Math.max(1, Math.min(workers, sections.size()));
+		for (int i = 1; i < sections.size() && boundaries.size() < shards; i++)
+		{
+			int start = boundaries.get(boundaries.size() - 1);
+			int target = (lines.size() - start) / (shards - boundaries.size() + 1);
+			if (sections.get(i) - start >= target)
+			{
+				boundaries.add(sections.get(i));
+				sectionOffsets.add(i);
+				lineOffsets.add(sections.get(i));
+			}
+		}
+		boundaries.add(lines.size());
+		shardCount = boundaries.size() - 1;
+
+		return boundaries;
+	}
+
+	/**
+	 *  worker μ ϰ    ٸ. ÿ ϴ μ workers  ʴ´.
+	 * 
+	 * @param shardFiles:  ϵ.   ̸ ".obj", ".sym", ".map"  Ͽ ȴ
+	 * @throws IOException: worker   ų  
+	 */
+	private void runWorkers(List<File> shardFiles) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		List<Future<Integer>> futures = new ArrayList<>();
+
+		for (int i = 0; i < shardFiles.size(); i++)
+		{
+			final ProcessBuilder builder = new ProcessBuilder(workerCommand(shardFiles.get(i), sectionOffsets.get(i), lineOffsets.get(i)));
+			builder.inheritIO();
+
+			futures.add(executor.submit(new Callable<Integer>()
+			{
+				public Integer call() throws IOException, InterruptedException
+				{
+					return builder.start().waitFor();
+				}
+			}));
+		}
+
+		try
+		{
+			for (int i = 0; i < futures.size(); i++)
+			{
+				int exitCode = futures.get(i).get();
+				if (exitCode != 0)
+					throw new IOException("worker for shard " + i + " exited with " + exitCode);
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for workers");
+		}
+		catch (ExecutionException e)
+		{
+			throw new IOException("cannot run worker", e.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 *  ϳ ϴ worker μ ɾ .<br>
+	 *  JVM java  , class path -X ɼ(heap ũ ) ״ Ѵ.
+	 * 
+	 * @param shard:  
+	 * @param offset:  ù  ȣ
+	 * @param lineOffset:  ù    
+	 * @return: ɾ ڵ
+	 */
+	private List<String> workerCommand(File shard, int offset, int lineOffset)
+	{
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments())
+			if (argument.startsWith("-X"))
+				command.add(argument);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("Assembler");
+		command.addAll(options);
+		command.add("-worker");
+		command.add(shard.getPath());
+		command.add(shard.getPath() + ".obj");
+		command.add(shard.getPath() + ".sym");
+		command.add(Integer.toString(offset));
+		command.add(Integer.toString(lineOffset));
+
+		return command;
+	}
+
+	/**
+	 *   ϵ  ϳ Ϸ ̾ δ.
+	 * 
+	 * @param shardFiles:  ϵ
+	 * @param suffix:   ̸    ̸
+	 * @param fileName:   ̸. ".gz"  Ͽ 
+	 * @throws IOException:  аų    
+	 */
+	private static void concatenate(List<File> shardFiles, String suffix, String fileName) throws IOException
+	{
+		OutputStream out = CompressedFiles.openOutputStream(fileName);
+
+		try
+		{
+			for (File shard : shardFiles)
+				Files.copy(new File(shard.getPath() + suffix).toPath(), out);
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	/**
+	 *  ε д´.  ̶  Ǯ鼭 д´.
+	 */
+	private static List<String> readLines(String fileName) throws IOException
+	{
+		List<String> lines = new ArrayList<>();
+		BufferedReader reader = CompressedFiles.openReader(fileName);
+
+		try
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+				lines.add(line);
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		return lines;
+	}
+
+	/**
+	 * ε Ͽ .
+	 */
+	private static void writeLines(File file, List<String> lines) throws IOException
+	{
+		BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+
+		try
+		{
+			for (String line : lines)
+			{
+				writer.write(line);
+				writer.newLine();
+			}
+		}
+		finally
+		{
+			writer.close();
+		}
+	}
+
+	/**
+	 *  ,   ܰ躰 ɸ ð  ٷ Ѵ.
+	 */
+	public void printStats()
+	{
+		System.out.println(String.format("shards: %d sections in %d shards, %d workers, split %.1f ms, workers %.1f ms, merge %.1f ms",
+				sectionCount, shardCount, workers, splitTime / 1e6, workerTime / 1e6, mergeTime / 1e6));
+	}
+}
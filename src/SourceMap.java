@@ -0,0 +1,394 @@
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ʈ α׷ ּҸ ҽ ڵ  ȣ ǵ source map  д Ŭ. <br>
+ * ùķͿ   ּҸ ҽ ڵ  ã  lineList Token ܵ ʰ  ϸ Ѵ. <br>
+ * section ּ   ȣ (entry) ּ  ϸ,  entry   ּҺ  entry 
+ * ּ  Ÿ. ũⰡ 0 ū(ּ, EXTDEF, EQU ) entry  ʰ, ̾ ū  ο
+ * Դٸ(INCLUDE) ϳ  ģ. <br>
+ * entry  entry ̸ varint ϹǷ ɾ ϳ  2Ʈ ȴ.    CHECKPOINT_INTERVAL
+ * entry  ּ,  ȣ  ġ Ͽ, ˻  checkpoint鿡  Ž  ִ
+ * CHECKPOINT_INTERVAL entry Ǯ O(log n) Ѵ.
+ * <br>
+ * <br>
+ *   (MAGIC, VERSION 4Ʈ big endian,   7Ʈ  unsigned varint) : <br>
+ * 1) header : MAGIC, VERSION <br>
+ * 2) section block (  ݺ) : ̸ , ̸(ASCII), entry , section  ּ, entry 迭 Ʈ , entry 迭
+ * <br>
+ * 3) entry :  entry ּ ,  entry  ȣ  (zigzag). ù entry 0  <br>
+ * section block  block ϹǷ,   ϵ ι° Ϻ header  ̾ ̸ ȴ.
+ */
+public class SourceMap
+{
+	/**  ĺ  ("SMAP") */
+	static final int MAGIC = 0x534D4150;
+	static final int VERSION = 1;
+	/**    ġ   entry  */
+	static final int CHECKPOINT_INTERVAL = 64;
+
+	// Ͽ ε 
+	MappedByteBuffer buffer;
+	// section ̸, entry ,  ּ
+	List<String> names = new ArrayList<>();
+	List<Integer> entryCounts = new ArrayList<>();
+	List<Integer> endAddresses = new ArrayList<>();
+	// section checkpoint ּ,  ȣ,  entry  ġ
+	List<int[]> checkpointAddresses = new ArrayList<>();
+	List<int[]> checkpointLines = new ArrayList<>();
+	List<int[]> checkpointPositions = new ArrayList<>();
+	// varint    ġ. readVarint 
+	private int position;
+
+	/**
+	 * source map   memory-mapϰ section checkpoint .
+	 *
+	 * @param fileName:   ̸
+	 * @throws IOException:    ų   ʴ 
+	 */
+	public SourceMap(String fileName) throws IOException
+	{
+		FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		channel.close();
+
+		if (buffer.limit() < 8 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+			throw new IOException("not a source map file: " + fileName);
+
+		position = 8;
+		while (position < buffer.limit())
+		{
+			// section block header
+			int nameLength = readVarint();
+			byte[] name = new byte[nameLength];
+			for (int i = 0; i < nameLength; i++)
+				name[i] = buffer.get(position + i);
+			position += nameLength;
+			int count = readVarint();
+			int endAddress = readVarint();
+			int length = readVarint();
+			int end = position + length;
+
+			// entry ʷ Ǯ CHECKPOINT_INTERVAL 
+			int checkpoints = (count + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL;
+			int[] addresses = new int[checkpoints], lines = new int[checkpoints], positions = new int[checkpoints];
+			int address = 0, line = 0;
+			for (int j = 0; j < count; j++)
+			{
+				address += readVarint();
+				line += decodeZigzag(readVarint());
+				if (j % CHECKPOINT_INTERVAL == 0)
+				{
+					addresses[j / CHECKPOINT_INTERVAL] = address;
+					lines[j / CHECKPOINT_INTERVAL] = line;
+					positions[j / CHECKPOINT_INTERVAL] = position;
+				}
+			}
+			if (position != end)
+				throw new IOException("corrupted source map section: " + new String(name, StandardCharsets.US_ASCII));
+
+			names.add(new String(name, StandardCharsets.US_ASCII));
+			entryCounts.add(count);
+			endAddresses.add(endAddress);
+			checkpointAddresses.add(addresses);
+			checkpointLines.add(lines);
+			checkpointPositions.add(positions);
+		}
+	}
+
+	/**
+	 * section  Ѵ.
+	 */
+	public int getSectionCount()
+	{
+		return names.size();
+	}
+
+	/**
+	 * section ̸ Ѵ.
+	 *
+	 * @param section: section ȣ
+	 */
+	public String getSectionName(int section)
+	{
+		return names.get(section);
+	}
+
+	/**
+	 * section entry  Ѵ.
+	 *
+	 * @param section: section ȣ
+	 */
+	public int getEntryCount(int section)
+	{
+		return entryCounts.get(section);
+	}
+
+	/**
+	 * ̸ section ȣ ã´.
+	 *
+	 * @param name: section ̸
+	 * @return: section ȣ.   -1
+	 */
+	public int findSection(String name)
+	{
+		return names.indexOf(name);
+	}
+
+	/**
+	 * section  ּҸ  ҽ ڵ  ȣ ã´. ּ   checkpoint  Ž ã , 
+	 *  entry ּҸ   ʷ Ǭ.
+	 *
+	 * @param section: section ȣ
+	 * @param address: section κ ּ
+	 * @return: 1 ϴ  ȣ. ּҰ section  ų  ε   ּҶ -1
+	 */
+	public int lookup(int section, int address)
+	{
+		int[] addresses = checkpointAddresses.get(section);
+		if (address < 0 || address >= endAddresses.get(section) || addresses.length == 0 || address < addresses[0])
+			return -1;
+
+		// low: ּ   checkpoint
+		int low = 0, high = addresses.length - 1;
+		while (low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+			if (addresses[middle] <= address)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+
+		int line = checkpointLines.get(section)[low];
+		int current = addresses[low];
+		int remaining = Math.min(CHECKPOINT_INTERVAL, entryCounts.get(section) - low * CHECKPOINT_INTERVAL) - 1;
+		position = checkpointPositions.get(section)[low];
+		for (int j = 0; j < remaining; j++)
+		{
+			current += readVarint();
+			int nextLine = line + decodeZigzag(readVarint());
+			if (current > address)
+				break;
+			line = nextLine;
+		}
+
+		return line;
+	}
+
+	/**
+	 *  position ġ unsigned varint ϳ а position  ġ ű.
+	 */
+	private int readVarint()
+	{
+		int value = 0;
+		for (int shift = 0;; shift += 7)
+		{
+			byte b = buffer.get(position++);
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+				return value;
+		}
+	}
+
+	/**
+	 * zigzag ٲ  ȣ ִ  ǵ.
+	 */
+	private static int decodeZigzag(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 *   source map ϵ  ϳ Ϸ ̾ δ. ι° Ϻʹ header .
+	 *
+	 * @param parts: ̾  ϵ
+	 * @param fileName:   ̸
+	 * @throws IOException:  аų    
+	 */
+	public static void concatenate(List<File> parts, String fileName) throws IOException
+	{
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(fileName));
+
+		try
+		{
+			for (int i = 0; i < parts.size(); i++)
+			{
+				byte[] data = Files.readAllBytes(parts.get(i).toPath());
+				if (i == 0)
+					out.write(data);
+				else
+					out.write(data, 8, data.length - 8);
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	/**
+	 * ϼ section ּҿ ҽ ڵ  ȣ source map Ͽ ʷ  Ŭ. <br>
+	 * section ϳ entry ޸𸮿 Ҵٰ section block Ƿ, ޸ 뷮  ū section entry
+	 * 迭 ũ⸦  ʴ´.
+	 */
+	public static class Writer
+	{
+		DataOutputStream out;
+		//  section entry 迭  Ʈ 
+		byte[] data = new byte[4096];
+		int size;
+		// ݱ  section, entry   ũ
+		int sectionCount;
+		long entryCount, fileSize;
+
+		/**
+		 *   header . ̹ ִ  .
+		 *
+		 * @param fileName:   ̸
+		 * @throws IOException:     
+		 */
+		public Writer(String fileName) throws IOException
+		{
+			out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)));
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			fileSize = 8;
+		}
+
+		/**
+		 * ּҰ Ȯ section ū section block ϳ . relaxation, ȭ  compact  ȣѴ.
+		 * <br>
+		 *  ּ ū   ũⰡ ִ  ū ,   ū ̾ٸ ù ū ּҸ
+		 * Ѵ.
+		 *
+		 * @param tokenTable: section ū ̺. ù ū ̺ section ̸̴
+		 * @param litTab: section literal table. ͷ   section  ּҿ Ѵ
+		 * @throws IOException: Ͽ    
+		 */
+		public void addSection(TokenTable tokenTable, SymbolTable litTab) throws IOException
+		{
+			// previousAddress, previousLine:   entry
+			// pendingAddress, pendingLine:    entry.  ּ  ū   
+			// endAddress: ū ͷ ϴ  ּ 
+			int previousAddress = 0, previousLine = 0;
+			int pendingAddress = -1, pendingLine = 0;
+			int endAddress = 0, count = 0;
+			size = 0;
+
+			for (int i = 0; i < tokenTable.getSize(); i++)
+			{
+				Token token = tokenTable.getToken(i);
+				// ּ ּҰ  Ƿ 
+				if (token.label.equals(".") || token.location < pendingAddress)
+					continue;
+				endAddress = Math.max(endAddress, token.location + token.byteSize);
+
+				if (pendingAddress == token.location)
+					pendingLine = token.sourceLine;
+				else if (pendingAddress < 0 || pendingLine != token.sourceLine)
+				{
+					if (pendingAddress >= 0 && pendingLine != previousLine)
+					{
+						putEntry(pendingAddress - previousAddress, pendingLine - previousLine);
+						previousAddress = pendingAddress;
+						previousLine = pendingLine;
+						count++;
+					}
+					pendingAddress = token.location;
+					pendingLine = token.sourceLine;
+				}
+			}
+			if (pendingAddress >= 0 && pendingLine != previousLine)
+			{
+				putEntry(pendingAddress - previousAddress, pendingLine - previousLine);
+				count++;
+			}
+
+			for (int k = 0; k < litTab.getSize(); k++)
+				endAddress = Math.max(endAddress, litTab.getLocation(k) + TokenTable.constantSize(litTab.getSymbol(k)));
+
+			String name = tokenTable.getToken(0).label;
+			long start = out.size();
+			writeVarint(name.length());
+			out.writeBytes(name);
+			writeVarint(count);
+			writeVarint(endAddress);
+			writeVarint(size);
+			out.write(data, 0, size);
+
+			sectionCount++;
+			entryCount += count;
+			fileSize += out.size() - start;
+		}
+
+		/**
+		 * ּ ̿ zigzag ٲ  ȣ ̸ entry 迭 ߰Ѵ.
+		 */
+		private void putEntry(int addressDelta, int lineDelta)
+		{
+			if (size + 10 > data.length)
+				data = java.util.Arrays.copyOf(data, data.length * 2);
+
+			size = putVarint(data, size, addressDelta);
+			size = putVarint(data, size, (lineDelta << 1) ^ (lineDelta >> 31));
+		}
+
+		/**
+		 * Ͽ unsigned varint ϳ .
+		 */
+		private void writeVarint(int value) throws IOException
+		{
+			while ((value & ~0x7F) != 0)
+			{
+				out.write((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			out.write(value);
+		}
+
+		/**
+		 *  ݴ´.
+		 *
+		 * @throws IOException:     
+		 */
+		public void close() throws IOException
+		{
+			out.close();
+		}
+
+		/**
+		 * section , entry   ũ⸦  ٷ Ѵ.
+		 *
+		 * @param lines: Է  
+		 */
+		public void printStats(int lines)
+		{
+			System.out.println(String.format("source map: %d sections, %d entries, %d bytes, %.2f bytes/line",
+					sectionCount, entryCount, fileSize, (double) fileSize / Math.max(lines, 1)));
+		}
+	}
+
+	/**
+	 * 迭 ġ unsigned varint ϳ .
+	 *
+	 * @return:  Ʈ  ġ
+	 */
+	private static int putVarint(byte[] data, int position, int value)
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			data[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data[position++] = (byte) value;
+		return position;
+	}
+}
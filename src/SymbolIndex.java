@@ -0,0 +1,197 @@
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * ɺ ̸κ SymbolTable  ġ(index) ã . <br>
+ * SIC/XE ɺ κ ª 빮, ڷ ̷ Ƿ  ڸ 7Ʈ ǥϿ ִ 9ڱ ϳ long 
+ * ϰ, ̸ key ϴ open addressing  longint ؽ ̺ Ѵ. <br>
+ *   ڵ尡 0 ƴϹǷ  ٸ ̸ ׻  ٸ key Ǿ, ĭ ̸ ϰų  ʴ´. <br>
+ *    ̸(9ڸ Ѱų ǥ   ڰ Ե ) String key ϴ HashMap  Ѵ.
+ */
+public class SymbolIndex
+{
+	/** ϳ long    ִ ̸ ִ  */
+	static final int MAX_PACKED_LENGTH = 9;
+	/**    ̸ Ÿ  */
+	static final long NOT_PACKED = -1;
+
+	/** ں 7Ʈ ڵ. 0  ڸ(ڿ ) ŸǷ  ʰ, ǥ   ڴ -1 */
+	private static final byte[] CHAR_CODE = new byte[128];
+	static
+	{
+		// alphabet: ڵ 1 ʷ Ҵ ڵ
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789abcdefghijklmnopqrstuvwxyz_'+-";
+
+		Arrays.fill(CHAR_CODE, (byte) -1);
+		for (int i = 0; i < alphabet.length(); i++)
+			CHAR_CODE[alphabet.charAt(i)] = (byte) (i + 1);
+	}
+
+	// keys:  ̸. 0  ĭ Ÿ
+	// values: ش ̸ ġ
+	// count:   key 
+	private long[] keys;
+	private int[] values;
+	private int count;
+
+	//    ̸ ġ
+	private HashMap<String, Integer> fallback;
+
+	/**
+	 *   Ѵ.
+	 */
+	public SymbolIndex()
+	{
+		keys = new long[16];
+		values = new int[16];
+		fallback = new HashMap<>();
+	}
+
+	/**
+	 *  ̸  . ̺ ũ Ѵ.
+	 */
+	public void clear()
+	{
+		Arrays.fill(keys, 0);
+		count = 0;
+		fallback.clear();
+	}
+
+	/**
+	 * ̸ ϳ long  Ѵ.  ̸ ׻   ǰ, ٸ ̸ ׻ ٸ  ȴ. <br>
+	 * 9 * 7Ʈ = 63Ʈ̹Ƿ   ׻ ̸, 0( ĭ)̳ NOT_PACKED  ʴ´.
+	 * 
+	 * @param name:  ̸
+	 * @return:  .     NOT_PACKED
+	 */
+	public static long pack(String name)
+	{
+		int length = name.length();
+		if (length == 0 || length > MAX_PACKED_LENGTH)
+			return NOT_PACKED;
+
+		long packed = 0;
+		for (int i = 0; i < length; i++)
+		{
+			char c = name.charAt(i);
+			if (c >= 128 || CHAR_CODE[c] < 0)
+				return NOT_PACKED;
+
+			packed = (packed << 7) | CHAR_CODE[c];
+		}
+
+		return packed;
+	}
+
+	/**
+	 * ̸ ġ Ѵ. ̹ ִ ̸̶ ġ ٲ۴.
+	 * 
+	 * @param name: ̸
+	 * @param index: SymbolTable  ġ
+	 */
+	public void put(String name, int index)
+	{
+		long key = pack(name);
+
+		if (key == NOT_PACKED)
+		{
+			fallback.put(name, index);
+			return;
+		}
+
+		//  ̻ áٸ ̺   ø
+		if ((count + 1) * 2 > keys.length)
+			resize(keys.length * 2);
+
+		int slot = findSlot(keys, key);
+		if (keys[slot] == 0)
+		{
+			keys[slot] = key;
+			count++;
+		}
+		values[slot] = index;
+	}
+
+	/**
+	 * ̸ ġ ã´.
+	 * 
+	 * @param name: ã ̸
+	 * @return: SymbolTable  ġ.   -1
+	 */
+	public int get(String name)
+	{
+		return get(name, pack(name));
+	}
+
+	/**
+	 * ̸   key ̸ ġ ã´. ̸ ٽ  ʴ´.
+	 * 
+	 * @param name: ã ̸
+	 * @param key: pack(name) 
+	 * @return: SymbolTable  ġ.   -1
+	 */
+	public int get(String name, long key)
+	{
+		if (key == NOT_PACKED)
+		{
+			Integer index = fallback.get(name);
+			return index == null ? -1 : index;
+		}
+
+		int slot = findSlot(keys, key);
+		return keys[slot] == 0 ? -1 : values[slot];
+	}
+
+	/**
+	 * key  ĭ, Ǵ key   ĭ ġ ã´. (linear probing)
+	 * 
+	 * @param table: ˻ key 迭
+	 * @param key: ã key
+	 * @return: ĭ ġ
+	 */
+	private static int findSlot(long[] table, long key)
+	{
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+
+		while (table[slot] != 0 && table[slot] != key)
+			slot = (slot + 1) & mask;
+
+		return slot;
+	}
+
+	/**
+	 *  key  ؽ  .
+	 * 
+	 * @param key:  key
+	 * @return: ؽ 
+	 */
+	private static int hash(long key)
+	{
+		key *= 0x9E3779B97F4A7C15L;
+		return (int) (key ^ (key >>> 32));
+	}
+
+	/**
+	 * ̺ ũ⸦ ٲٰ  key ٽ ġѴ.
+	 * 
+	 * @param capacity:  ũ (2 ŵ)
+	 */
+	private void resize(int capacity)
+	{
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new long[capacity];
+		values = new int[capacity];
+
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldKeys[i] != 0)
+			{
+				int slot = findSlot(keys, oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+}
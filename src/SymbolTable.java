@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.BitSet;
 
 /**
  * symbol õ Ϳ  Ѵ. section  ϳ νϽ ҴѴ.
@@ -8,6 +9,9 @@ public class SymbolTable
 	ArrayList<String> symbolList;  // ɺ   Ʈ
 	ArrayList<Integer> locationList;  // ش ɺ ּҰ   Ʈ
 	ArrayList<Integer> modifSizeList;  // modification table  Ʈ ũ⸦ ϴ Ʈ
+	BitSet absoluteSymbols;  // ε ġ  밪 ɺ(EQU , ɺ ) Ʈ  ġ
+	SymbolIndex symbolIndex;  // ɺ ̸ Ʈ  ġ ã  
+	AddressIndex addressIndex;  // ּҷ ɺ ã  .  ʾҰų table ٲ  null
 	// Ÿ literal, external   ó Ѵ.
 
 	/**
@@ -19,6 +23,22 @@ public class SymbolTable
 		symbolList = new ArrayList<>();
 		locationList = new ArrayList<>();
 		modifSizeList = new ArrayList<>();
+		absoluteSymbols = new BitSet();
+		symbolIndex = new SymbolIndex();
+	}
+
+	/**
+	 * table    . ּҸ ٽ ϱ ̳ ٸ ǿ ٽ ϱ  Ѵ.<br>
+	 * Ʈ  뷮 Ѵ.
+	 */
+	public void clear()
+	{
+		symbolList.clear();
+		locationList.clear();
+		modifSizeList.clear();
+		absoluteSymbols.clear();
+		symbolIndex.clear();
+		addressIndex = null;
 	}
 
 	/**
@@ -35,22 +55,45 @@ public class SymbolTable
 	public void putSymbol(String symbol, int location)
 	{
 		// ڷ  ɺ 
-		String inputSymbol = symbol;
-
-		// ɺ "=" Ե (ͷ )
-		// "=" ǥø 
-		if (inputSymbol.contains("="))
-			inputSymbol = inputSymbol.replaceAll("=", "");
+		// ͷ  "=" ǥø 
+		String inputSymbol = removeLiteralMark(symbol);
 
 		//   ɺ ƴ 
-		if (!symbolList.contains(inputSymbol))
+		if (symbolIndex.get(inputSymbol) < 0)
 		{
-			// ɺ ڷ  ּҰ 
+			// ɺ ڷ  ּҰ ϰ ο ġ 
+			symbolIndex.put(inputSymbol, symbolList.size());
 			symbolList.add(inputSymbol);
 			locationList.add(location);
+			addressIndex = null;
 		}
 	}
 	
+	/**
+	 *  ɺ 밪 ɺ ǥѴ. 밪 ɺ ּҰ ƴϹǷ  ּҳ modification    ״ Ѵ.
+	 * 
+	 * @param symbol: ǥ ɺ
+	 */
+	public void markAbsolute(String symbol)
+	{
+		int index = symbolIndex.get(symbol);
+		if (index >= 0)
+			absoluteSymbols.set(index);
+	}
+
+	/**
+	 * ̸ м ǿ ̸  key ɺ 밪 ɺ ȮѴ.
+	 * 
+	 * @param symbol: Ȯ ɺ
+	 * @param key: SymbolIndex.pack(symbol) 
+	 * @return: markAbsolute ǥõ ɺ̸ true.  ɺ̸ false
+	 */
+	public boolean isAbsolute(String symbol, long key)
+	{
+		int index = symbolIndex.get(symbol, key);
+		return index >= 0 && absoluteSymbols.get(index);
+	}
+
 	/**
 	 * modification table modification record  ɺ, ּ,  Ʈ ũ  Ѵ.
 	 * 
@@ -63,6 +106,7 @@ public class SymbolTable
 		symbolList.add(modifSymbol);
 		locationList.add(location);
 		modifSizeList.add(modifSize);
+		addressIndex = null;
 	}
 
 	/**
@@ -76,27 +120,34 @@ public class SymbolTable
 	public void modifySymbol(String symbol, int newLocation)
 	{
 		// ڷ  ɺ 
-		String inputSymbol = symbol;
-
-		// ɺ "=" Ե (ͷ )
-		// "=" ǥø 
-		if (inputSymbol.contains("="))
-			inputSymbol = inputSymbol.replaceAll("=", "");
+		// ͷ  "=" ǥø 
+		String inputSymbol = removeLiteralMark(symbol);
 
 		// List  ̹ Ǿִ 쿡  
-		if (symbolList.contains(inputSymbol))
+		//  Ǿִ ɺ ġ ã ڷ  ο ּҰ ־
+		int index = symbolIndex.get(inputSymbol);
+		if (index >= 0)
 		{
-			// Ǿִ ɺ ġ ã ڷ  ο ּҰ ־
-			for (int index = 0; index < symbolList.size(); index++)
-				if (inputSymbol.equals(symbolList.get(index)))
-				{
-					symbolList.set(index, inputSymbol);
-					locationList.set(index, newLocation);
-					break;
-				}
+			locationList.set(index, newLocation);
+			addressIndex = null;
 		}
 	}
 
+	/**
+	 * ּҰ from ̻ ׸ ּҸ deltaŭ ű.  ū ũⰡ ٲ  ū ּҰ Ű 
+	 * modification  table Ѵ.
+	 * 
+	 * @param from: ű ù ּ
+	 * @param delta: ű ũ
+	 */
+	public void shiftLocations(int from, int delta)
+	{
+		for (int i = 0; i < locationList.size(); i++)
+			if (locationList.get(i) >= from)
+				locationList.set(i, locationList.get(i) + delta);
+		addressIndex = null;
+	}
+
 	/**
 	 * ڷ ޵ symbol  ּҸ Īϴ ˷ش.
 	 * 
@@ -106,26 +157,93 @@ public class SymbolTable
 	 */
 	public int search(String symbol)
 	{
-		//  ּҰ 
-		int address = 0;
-		
-		// ڷ  ɺ List  ִ 
-		// ش ɺ ּҰ ã address 
-		if (symbolList.contains(symbol))
+		//  ɺ ġ ã
+		int index = symbolIndex.get(symbol);
+
+		// ڷ  ɺ List  ִ  ش ɺ ּҰ 
+		//   -1 
+		return index >= 0 ? locationList.get(index) : -1;
+	}
+
+	/**
+	 * ּҷ ɺ ã   Ѵ.  ʾҰų table ٲ ڶ  .
+	 * 
+	 * @return: ּ 
+	 */
+	public AddressIndex getAddressIndex()
+	{
+		if (addressIndex == null)
+			addressIndex = new AddressIndex(this);
+
+		return addressIndex;
+	}
+
+	/**
+	 * ־ ּ  ּҸ  ɺ    ɺ ġ ã´. O(log n)
+	 * 
+	 * @param address: ã ּ
+	 * @return: ɺ ġ. شϴ ɺ  -1
+	 */
+	public int searchFloor(int address)
+	{
+		return getAddressIndex().floor(address);
+	}
+
+	/**
+	 * ̸ м ǿ ̸  key ּҸ ã´. ̸ ٽ  ʴ´.
+	 * 
+	 * @param symbol
+	 *            : ˻ ϴ symbol label
+	 * @param key
+	 *            : SymbolIndex.pack(symbol) 
+	 * @return symbol  ִ ּҰ. ش symbol   -1 
+	 */
+	public int search(String symbol, long key)
+	{
+		int index = symbolIndex.get(symbol, key);
+
+		return index >= 0 ? locationList.get(index) : -1;
+	}
+
+	/**
+	 * ͷ տ  "=" ǥø Ѵ.
+	 * 
+	 * @param symbol: ɺ Ǵ ͷ
+	 * @return: "=" ǥø  ̸
+	 */
+	private static String removeLiteralMark(String symbol)
+	{
+		return symbol.startsWith("=") ? symbol.substring(1) : symbol;
+	}
+
+	/**
+	 * ǿ Ŀ  table ɺ ϳ Ǿ ȮѴ.<br>
+	 *  '+', '-' е ɺ ̷, տ  '#', '@', '=' ǥô Ѵ.
+	 * 
+	 * @param operand: ˻ ǿ 
+	 * @return:  table ɺ Ǿٸ true
+	 */
+	public boolean isReferencedIn(String operand)
+	{
+		// start: ˻ ɺ  ġ
+		int start = 0;
+
+		// ּ   ǥô ǳʶ
+		while (start < operand.length() && "#@=".indexOf(operand.charAt(start)) >= 0)
+			start++;
+
+		// ڸ   ɺ ο ˻
+		for (int i = start; i <= operand.length(); i++)
 		{
-			for (int index = 0; index < symbolList.size(); index++)
-				if (symbol.equals(symbolList.get(index)))
-				{
-					address = locationList.get(index);
-					break;
-				}
+			if (i == operand.length() || operand.charAt(i) == '-' || operand.charAt(i) == '+')
+			{
+				if (i > start && symbolIndex.get(operand.substring(start, i)) >= 0)
+					return true;
+				start = i + 1;
+			}
 		}
-		//   -1 address 
-		else
-			address = -1;
 
-		// address 
-		return address;
+		return false;
 	}
 
 	/**
@@ -170,19 +288,7 @@ public class SymbolTable
 	 */
 	public int getLiteralSize(int index)
 	{
-		int size = 0;
-		
-		if (symbolList.get(index).contains("X"))
-		{
-			size = 1;
-		}
-		else if (symbolList.get(index).contains("C"))
-		{
-			String literal = symbolList.get(index).replaceAll("C|\'", "");
-			size = literal.length();
-		}
-		
-		return size;
+		return TokenTable.constantSize(symbolList.get(index));
 	}
 	
 	/**
@@ -0,0 +1,279 @@
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * section symbol table   Ϸ ϰ,   memory-mapϿ ɺ ̸ ٷ ˻ϴ Ŭ. <br>
+ * ؽƮ  symtab ϰ ޸   Ľ ʿ , section ؽ  Բ Ǿ ־ O(1) ˻  ִ.
+ * <br>
+ * <br>
+ *   (  4Ʈ big endian, ġ  κ byte offset) : <br>
+ * 1) header : MAGIC, VERSION, section ,  section block ġ <br>
+ * 2) section block : ̸ ġ, ̸ , ɺ , bucket (2 ŵ), bucket 迭, entry 迭 <br>
+ * 3) bucket : ش ؽ   entry ȣ + 1. 0̸  ĭ (linear probing) <br>
+ * 4) entry : ɺ ּ, ̸ ġ, ̸  <br>
+ * 5)   ̸ ڿ(ASCII)
+ */
+public class SymbolTableFile
+{
+	/**  ĺ  ("SYMB") */
+	static final int MAGIC = 0x53594D42;
+	static final int VERSION = 1;
+
+	// Ͽ ε ۿ section 
+	MappedByteBuffer buffer;
+	int sectionCount;
+
+	/**
+	 *  symbol table   memory-mapѴ.
+	 * 
+	 * @param fileName:   ̸
+	 * @throws IOException:    ų   ʴ 
+	 */
+	public SymbolTableFile(String fileName) throws IOException
+	{
+		FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		channel.close();
+
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+			throw new IOException("not a binary symbol table file: " + fileName);
+
+		sectionCount = buffer.getInt(8);
+	}
+
+	/**
+	 * section symbol table   Ѵ.
+	 * 
+	 * @param fileName:   ̸
+	 * @param names: section ̸
+	 * @param tables: section symbol table
+	 * @throws IOException:     
+	 */
+	public static void write(String fileName, List<String> names, List<SymbolTable> tables) throws IOException
+	{
+		//  section block ũ⸦   ü ũ⸦ 
+		// header: MAGIC, VERSION, section , section ġ
+		long size = 12 + 4L * tables.size();
+		int[] bucketCounts = new int[tables.size()];
+		for (int i = 0; i < tables.size(); i++)
+		{
+			bucketCounts[i] = bucketCount(tables.get(i).getSize());
+			size += 16 + 4L * bucketCounts[i] + 12L * tables.get(i).getSize() + names.get(i).length();
+			for (int j = 0; j < tables.get(i).getSize(); j++)
+				size += tables.get(i).getSymbol(j).length();
+		}
+
+		FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+		out.putInt(MAGIC);
+		out.putInt(VERSION);
+		out.putInt(tables.size());
+
+		// block:  section block ġ
+		// strings: ̸ ڿ  ġ (section block )
+		int block = 12 + 4 * tables.size();
+		int strings = block;
+		for (int i = 0; i < tables.size(); i++)
+			strings += 16 + 4 * bucketCounts[i] + 12 * tables.get(i).getSize();
+
+		for (int i = 0; i < tables.size(); i++)
+		{
+			SymbolTable table = tables.get(i);
+			int count = table.getSize();
+			int buckets = block + 16;
+			int entries = buckets + 4 * bucketCounts[i];
+
+			out.putInt(12 + 4 * i, block);
+
+			// section ̸
+			out.putInt(block, strings);
+			out.putInt(block + 4, names.get(i).length());
+			strings = putString(out, strings, names.get(i));
+			out.putInt(block + 8, count);
+			out.putInt(block + 12, bucketCounts[i]);
+
+			for (int j = 0; j < count; j++)
+			{
+				String symbol = table.getSymbol(j);
+
+				// entry 
+				out.putInt(entries + 12 * j, table.getLocation(j));
+				out.putInt(entries + 12 * j + 4, strings);
+				out.putInt(entries + 12 * j + 8, symbol.length());
+				strings = putString(out, strings, symbol);
+
+				// ؽ  ġ  bucket ã entry ȣ + 1 
+				int mask = bucketCounts[i] - 1;
+				int slot = hash(symbol) & mask;
+				while (out.getInt(buckets + 4 * slot) != 0)
+					slot = (slot + 1) & mask;
+				out.putInt(buckets + 4 * slot, j + 1);
+			}
+
+			block = entries + 12 * count;
+		}
+
+		out.force();
+		channel.close();
+	}
+
+	/**
+	 * section  Ѵ.
+	 * 
+	 * @return: section 
+	 */
+	public int getSectionCount()
+	{
+		return sectionCount;
+	}
+
+	/**
+	 * section ̸ Ѵ.
+	 * 
+	 * @param section: section ȣ
+	 * @return: section ̸
+	 */
+	public String getSectionName(int section)
+	{
+		int block = buffer.getInt(12 + 4 * section);
+		return getString(buffer.getInt(block), buffer.getInt(block + 4));
+	}
+
+	/**
+	 * ̸ section ȣ ã´.
+	 * 
+	 * @param name: section ̸
+	 * @return: section ȣ.   -1
+	 */
+	public int findSection(String name)
+	{
+		for (int i = 0; i < sectionCount; i++)
+		{
+			int block = buffer.getInt(12 + 4 * i);
+			if (matches(buffer.getInt(block), buffer.getInt(block + 4), name))
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * section ؽ  ɺ ּҸ ã´.   ü  ʰ ε ۿ ٷ Ѵ.
+	 * 
+	 * @param section: section ȣ
+	 * @param symbol: ã ɺ ̸
+	 * @return: ɺ ּ.   -1
+	 */
+	public int lookup(int section, String symbol)
+	{
+		int block = buffer.getInt(12 + 4 * section);
+		int bucketCount = buffer.getInt(block + 12);
+		int buckets = block + 16;
+		int entries = buckets + 4 * bucketCount;
+		int mask = bucketCount - 1;
+
+		// ؽ  ġ  bucket   ʷ 
+		for (int slot = hash(symbol) & mask;; slot = (slot + 1) & mask)
+		{
+			int entry = buffer.getInt(buckets + 4 * slot);
+			if (entry == 0)
+				return -1;
+
+			int position = entries + 12 * (entry - 1);
+			if (matches(buffer.getInt(position + 4), buffer.getInt(position + 8), symbol))
+				return buffer.getInt(position);
+		}
+	}
+
+	/**
+	 * ɺ  ´ bucket  Ѵ.  ϸ  2 ŵ Ѵ.
+	 * 
+	 * @param count: ɺ 
+	 * @return: bucket 
+	 */
+	private static int bucketCount(int count)
+	{
+		int buckets = 2;
+		while (buckets < count * 2)
+			buckets <<= 1;
+
+		return buckets;
+	}
+
+	/**
+	 * ̸ ؽ  Ѵ. (FNV-1a)
+	 * 
+	 * @param name: ̸
+	 * @return: ؽ 
+	 */
+	private static int hash(String name)
+	{
+		int hash = 0x811C9DC5;
+		for (int i = 0; i < name.length(); i++)
+		{
+			hash ^= name.charAt(i) & 0xFF;
+			hash *= 0x01000193;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * ڿ ASCII Ѵ.
+	 * 
+	 * @param out:  
+	 * @param position:  ġ
+	 * @param string:  ڿ
+	 * @return:    ġ
+	 */
+	private static int putString(MappedByteBuffer out, int position, String string)
+	{
+		for (int i = 0; i < string.length(); i++)
+			out.put(position + i, (byte) string.charAt(i));
+
+		return position + string.length();
+	}
+
+	/**
+	 * ۿ ϵ ڿ д´.
+	 * 
+	 * @param position: ڿ ġ
+	 * @param length: ڿ 
+	 * @return: ڿ
+	 */
+	private String getString(int position, int length)
+	{
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++)
+			bytes[i] = buffer.get(position + i);
+
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * ۿ ϵ ڿ ڷ  ڿ  Ѵ.
+	 * 
+	 * @param position: ϵ ڿ ġ
+	 * @param length: ϵ ڿ 
+	 * @param name:  ڿ
+	 * @return: ٸ true
+	 */
+	private boolean matches(int position, int length, String name)
+	{
+		if (length != name.length())
+			return false;
+
+		for (int i = 0; i < length; i++)
+			if (buffer.get(position + i) != (byte) name.charAt(i))
+				return false;
+
+		return true;
+	}
+}
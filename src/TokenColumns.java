@@ -0,0 +1,191 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ *  section Token Token ü  (column)  迭 ϴ Ŭ. <br>
+ * ּҰ, ũ, nixbpe primitive 迭 ϰ, label, operator, operand ڿ section ȿ    
+ * ȣ(id) Ѵ. ּ pass2  Ƿ  ʴ´. <br>
+ * pass1 section ϼ  TokenTable.compact()  .
+ */
+class TokenColumns
+{
+	//  Token ּҰ, ũ, nixbpe
+	int[] locations;
+	int[] sizes;
+	byte[] flags;
+
+	//  Token label, operator, operand ڿ ȣ.   -1
+	int[] labelIds;
+	int[] operatorIds;
+	int[] operandIds;
+
+	// pass2   Token object code. pass2  null
+	String[] objectCodes;
+
+	// strings: ȣ ڿ
+	// operands: ȣ operand ڿ ','  迭.  operand  Token Բ 
+	// parsedOperands: ȣ ̸ м operand.  operand  Token Բ 
+	// stringIds: ڿ ȣ
+	ArrayList<String> strings;
+	ArrayList<String[]> operands;
+	ArrayList<Operand> parsedOperands;
+	HashMap<String, Integer> stringIds;
+
+	// view(int, InstTable)  ä ִ Token ü. ó   
+	private Token view;
+
+	/**
+	 * Token ü   Ű Ѵ.
+	 * 
+	 * @param tokens: ű Token 
+	 */
+	public TokenColumns(List<Token> tokens)
+	{
+		int size = tokens.size();
+		locations = new int[size];
+		sizes = new int[size];
+		flags = new byte[size];
+		labelIds = new int[size];
+		operatorIds = new int[size];
+		operandIds = new int[size];
+		strings = new ArrayList<>();
+		operands = new ArrayList<>();
+		parsedOperands = new ArrayList<>();
+		stringIds = new HashMap<>();
+
+		for (int i = 0; i < size; i++)
+		{
+			Token token = tokens.get(i);
+
+			locations[i] = token.location;
+			sizes[i] = token.byteSize;
+			flags[i] = (byte) token.nixbpe;
+			labelIds[i] = intern(token.label, null, null);
+			operatorIds[i] = intern(token.operator, null, null);
+			operandIds[i] = token.operand == null ? -1 : intern(String.join(",", token.operand), token.operand, token.parsedOperand);
+		}
+	}
+
+	/**
+	 * ڿ ȣ Ѵ. ó  ڿ̶  ȣ ҴѴ.
+	 * 
+	 * @param string: ȣ  ڿ
+	 * @param operand: ڿ operand  ','  迭. ƴ϶ null
+	 * @param parsedOperand: ڿ operand  ̸ м operand. ƴ϶ null
+	 * @return: ڿ ȣ. ڿ null̶ -1
+	 */
+	private int intern(String string, String[] operand, Operand parsedOperand)
+	{
+		if (string == null)
+			return -1;
+
+		Integer id = stringIds.get(string);
+
+		//  ڿ label operand    operand 迭 ߿ ä
+		if (id != null)
+		{
+			if (operand != null && operands.get(id) == null)
+			{
+				operands.set(id, operand);
+				parsedOperands.set(id, parsedOperand);
+			}
+			return id;
+		}
+
+		id = strings.size();
+		strings.add(string);
+		operands.add(operand);
+		parsedOperands.add(parsedOperand);
+		stringIds.put(string, id);
+		return id;
+	}
+
+	/**
+	 *  Token  Ѵ.
+	 * 
+	 * @return: Token 
+	 */
+	public int size()
+	{
+		return locations.length;
+	}
+
+	/**
+	 * index ° Token   Token ü . ּ  Ƿ null̴.<br>
+	 *  ü ص   ٲ ʴ´.   store Ѵ.
+	 * 
+	 * @param index: Token ġ
+	 * @param instTable: Token ũ instruction table
+	 * @return: Token ü
+	 */
+	public Token get(int index, InstTable instTable)
+	{
+		return fill(new Token(instTable), index);
+	}
+
+	/**
+	 * index ° Token  ϳ Token ü ä Ѵ.  ü  Ƿ  ȣ ȿϸ,
+	 * ū ϳ ʷ д pass2 ڵ ¿ Ѵ.
+	 * 
+	 * @param index: Token ġ
+	 * @param instTable: Token ũ instruction table
+	 * @return:  ä Token ü
+	 */
+	public Token view(int index, InstTable instTable)
+	{
+		if (view == null)
+			view = new Token(instTable);
+
+		return fill(view, index);
+	}
+
+	/**
+	 * Token ü index ° Token  ä.
+	 * 
+	 * @param token:  ä ü
+	 * @param index: Token ġ
+	 * @return: token
+	 */
+	private Token fill(Token token, int index)
+	{
+		token.location = locations[index];
+		token.byteSize = sizes[index];
+		token.nixbpe = (char) flags[index];
+		token.label = labelIds[index] < 0 ? null : strings.get(labelIds[index]);
+		token.operator = operatorIds[index] < 0 ? null : strings.get(operatorIds[index]);
+		token.operand = operandIds[index] < 0 ? null : operands.get(operandIds[index]);
+		token.parsedOperand = operandIds[index] < 0 ? null : parsedOperands.get(operandIds[index]);
+		token.objectCode = objectCodes == null ? null : objectCodes[index];
+
+		return token;
+	}
+
+	/**
+	 * pass2 ٲ Token (ּҰ, ũ, nixbpe, object code) index ° Token Ѵ.
+	 * 
+	 * @param index: Token ġ
+	 * @param token:    Token ü
+	 */
+	public void store(int index, Token token)
+	{
+		locations[index] = token.location;
+		sizes[index] = token.byteSize;
+		flags[index] = (byte) token.nixbpe;
+		setObjectCode(index, token.objectCode);
+	}
+
+	/**
+	 * index ° Token object code Ѵ.
+	 * 
+	 * @param index: Token ġ
+	 * @param objectCode:  object code
+	 */
+	public void setObjectCode(int index, String objectCode)
+	{
+		if (objectCodes == null)
+			objectCodes = new String[locations.length];
+
+		objectCodes[index] = objectCode;
+	}
+}
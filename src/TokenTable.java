@@ -19,6 +19,27 @@ public class TokenTable
 	public static final int pFlag = 2;
 	public static final int eFlag = 1;
 
+	/** 16 ȯ ϴ ں  */
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+	/** 0 255 Ʈ   ڸ 16 .  b ڴ 2b, 2b + 1 ġ ִ */
+	private static final char[] HEX_PAIRS = new char[512];
+
+	/**
+	 * ֱٿ  object code ڿ.   object code ڿ   ʰ Բ Ѵ. <br>
+	 *  hash  ڸ ϸ  ڸ ٸ  . String ٲ Ƿ  thread ÿ
+	 * ص ߸ ڿ  ʴ´.
+	 */
+	private static final String[] CODE_CACHE = new String[1 << 12];
+
+	static
+	{
+		for (int b = 0; b < 256; b++)
+		{
+			HEX_PAIRS[b * 2] = HEX_DIGITS[b >> 4];
+			HEX_PAIRS[b * 2 + 1] = HEX_DIGITS[b & 0xF];
+		}
+	}
+
 	/* Token ٷ  ʿ ̺ ũŲ. */
 	SymbolTable symTab; // symbol table
 	SymbolTable litTab;  // literal table
@@ -27,9 +48,22 @@ public class TokenTable
 
 	/**  line ǹ̺ ϰ мϴ . */
 	ArrayList<Token> tokenList;
+	// reset  Token ü.  putToken   ʰ ٽ 
+	ArrayList<Token> spareTokens = new ArrayList<>();
+	// compact()  Token   ϴ . null̸ tokenList Ǿ 
+	TokenColumns columns;
+	// м line ּ  ο parse cache  . ̺  Assembler  
+	boolean keepComments = true;
+	boolean useParseCache = true;
 	
 	// Program Counter Ͱ ϴ 
 	int programCounter;
+	// BASE þ  Base Ͱ ϴ .    -1
+	int baseRegister;
+	//   object code ּҸ ã   ɺ Ǵ ͷ operand.  ʾҴٸ null
+	Operand lastReference;
+	// object code 16 ڵ  . ּҰ ڸ Ѵ 츦    ̷ Ҵ
+	char[] codeBuffer = new char[11];
 
 	/**
 	 * ʱȭϸ鼭 symTable instTable ũŲ.
@@ -48,17 +82,73 @@ public class TokenTable
 		this.extTab = extTab;
 		this.instTab = instTab;
 		programCounter = 0;
+		baseRegister = -1;
 	}
 
 	/**
-	 * Ϲ ڿ ޾Ƽ Token и tokenList ߰Ѵ.
+	 * Ϲ ڿ ޾Ƽ Token и tokenList ߰Ѵ.<br>
+	 * ̹ м  ִ ̶ parse cache м  Ͽ Ѵ.
 	 * 
 	 * @param line
 	 *            : и  Ϲ ڿ
 	 */
 	public void putToken(String line)
 	{
-		tokenList.add(new Token(line, instTab));
+		// spare: ٽ  Token. ̺ ִ ó  м 쿡  Ƿ ٽ 
+		Token spare = spareTokens.isEmpty() ? null : spareTokens.remove(spareTokens.size() - 1);
+		Token token = ParseCache.getToken(line, instTab, spare, keepComments, useParseCache);
+		if (spare != null && token != spare)
+			spareTokens.add(spare);
+
+		tokenList.add(token);
+	}
+
+	/**
+	 * ٸ ǿ ٽ   ֵ table   ̺ ũѴ.<br>
+	 * tokenList 뷮  ä , ִ Token ü Ͽٰ  putToken ٽ Ѵ.
+	 * 
+	 * @param symTab:   symbol table
+	 * @param litTab:   literal table
+	 * @param extTab:   external (reference) table
+	 */
+	public void reset(SymbolTable symTab, SymbolTable litTab, SymbolTable extTab)
+	{
+		for (int i = 0; i < tokenList.size(); i++)
+			spareTokens.add(tokenList.get(i));
+		tokenList.clear();
+		columns = null;
+
+		this.symTab = symTab;
+		this.litTab = litTab;
+		this.extTab = extTab;
+		programCounter = 0;
+		baseRegister = -1;
+		lastReference = null;
+	}
+
+	/**
+	 * ̹ м  Token Ͽ tokenList ߰Ѵ.
+	 * 
+	 * @param template
+	 *            :  Token (include   ̸ м Token)
+	 */
+	public void putToken(Token template)
+	{
+		Token token = new Token(template, instTab);
+		if (!keepComments)
+			token.comment = null;
+		tokenList.add(token);
+	}
+
+	/**
+	 * ̸ м Token  ʰ ״ tokenList ߰Ѵ.
+	 * 
+	 * @param token
+	 *            : ߰ Token ( lexing   table  м Token)
+	 */
+	public void addToken(Token token)
+	{
+		tokenList.add(token);
 	}
 
 	/**
@@ -69,9 +159,75 @@ public class TokenTable
 	 */
 	public Token getToken(int index)
 	{
+		//     ش index  Token ü  
+		if (columns != null)
+			return columns.get(index, instTab);
+
+		return tokenList.get(index);
+	}
+
+	/**
+	 * ū ϳ ʷ   index شϴ Token Ѵ.<br>
+	 *     getToken ޸  ü  ʰ ϳ ü  ä ֹǷ,  viewToken ȣ
+	 *  ؾ ϸ    ʴ´.
+	 * 
+	 * @param index: Token ġ
+	 * @return: indexȣ شϴ Token
+	 */
+	public Token viewToken(int index)
+	{
+		if (columns != null)
+			return columns.view(index, instTab);
+
 		return tokenList.get(index);
 	}
 
+	/**
+	 * index ġ Token line  м Token ٲ۴.   ģ  ٽ м  Ѵ.
+	 * compact()    , ּҴ  ʴ´.
+	 * 
+	 * @param index
+	 *            : ٲ Token index
+	 * @param line
+	 *            :  м ڿ
+	 * @return :   Token
+	 */
+	public Token setToken(int index, String line)
+	{
+		Token token = ParseCache.getToken(line, instTab, null, keepComments, useParseCache);
+		tokenList.set(index, token);
+		return token;
+	}
+
+	/**
+	 * ǥõ Token tokenList . compact()    ִ.
+	 * 
+	 * @param remove
+	 *            : Token  
+	 */
+	public void removeTokens(boolean[] remove)
+	{
+		ArrayList<Token> remaining = new ArrayList<>(tokenList.size());
+		for (int i = 0; i < tokenList.size(); i++)
+			if (!remove[i])
+				remaining.add(tokenList.get(i));
+
+		tokenList = remaining;
+	}
+
+	/**
+	 * section Token  ߰  Token ü   迭 Ű ޸ 뷮 δ.<br>
+	 *  getToken Ź  Token ü  ϹǷ, ϵ Token ص table ݿ ʴ´.
+	 */
+	public void compact()
+	{
+		if (columns != null)
+			return;
+
+		columns = new TokenColumns(tokenList);
+		tokenList = null;
+	}
+
 	/**
 	 * Pass2  Ѵ. instruction table, symbol table  Ͽ object code ϰ, ̸
 	 * Ѵ.
@@ -80,18 +236,20 @@ public class TokenTable
 	 */
 	public void makeObjectCode(int index)
 	{
-		// ش index α׷ ҽ ũ⸦  PC   
-		programCounter += tokenList.get(index).byteSize;
-		
 		// currentToken: ش index token 
 		// operator: ش index token operator 
 		// targetAddress: ش ҽڵ target address
-		// operandData: ش ҽڵ operand 
 		// addressData: object code  ּҰ String 
-		Token currentToken = tokenList.get(index);
+		// parsedOperand: line м  ̸ м  operand
+		Token currentToken = viewToken(index);
+		Operand parsedOperand = currentToken.parsedOperand;
+		lastReference = null;
+
+		// ش index α׷ ҽ ũ⸦  PC   
+		programCounter += currentToken.byteSize;
+
 		String operator = currentToken.operator;
 		int targetAddress = 0;
-		String operandData, addressData;
 
 		// operator ٸ object code  ʿ䰡 Ƿ ޼ҵ 
 		if (operator == null)
@@ -99,8 +257,8 @@ public class TokenTable
 
 		// operator '+' ǥõǾ ִٸ 
 		// instTable 󿡼 ˻ ϰ ϱ 
-		if (operator.contains("+"))
-			operator = operator.replaceAll("[+]", "");
+		if (operator.startsWith("+"))
+			operator = operator.substring(1);
 
 		// operator ɾ 
 		if (instTab.isInstruction(operator))
@@ -112,6 +270,11 @@ public class TokenTable
 			// 3Ǵ 4 ɾ 
 			if (instTab.getFormat(operator) == 3)
 			{
+				// 3Ŀ immediate addressing ɺ ϴ  ɺ   ּ   
+				if (currentToken.byteSize == 3 && parsedOperand != null && parsedOperand.mode == Operand.IMMEDIATE
+						&& !parsedOperand.constant)
+					selectImmediateFlags(currentToken);
+
 				//  token nFlag iFlag  opcode ǥ
 				opcode += currentToken.getFlag(nFlag) / iFlag;
 				opcode += currentToken.getFlag(iFlag) / iFlag;
@@ -131,39 +294,28 @@ public class TokenTable
 					//    nFlag Ǿ ִ , operand  ɺ 
 					if (currentToken.getFlag(nFlag) == nFlag)
 					{
-						//  token operand 
-						operandData = currentToken.operand[0];
-
-						// operand '@' ǥõǾ ִٸ 
-						if (operandData.contains("@"))
-							operandData = operandData.replaceAll("@", "");
-
-						// operand '=' ǥð ִٸ 
-						// '=' ǥð ִٸ ͷ̶ ̹Ƿ
-						// literal table ͷ ּҸ ã Ÿּҷ 
-						if (operandData.contains("="))
-						{
-							operandData = operandData.replaceAll("=", "");
-							targetAddress = litTab.search(operandData);
-						}
-						// '='ǥð ٸ ɺ̶ ̹Ƿ
-						// symbol table ɺ ּҸ ã Ÿּҷ 
-						else  
-							targetAddress = symTab.search(operandData);
+						// ͷ̶ literal table ͷ ּҸ ã Ÿּҷ 
+						// ɺ̶ symbol table ɺ ּҸ ã Ÿּҷ 
+						// '@', '=' ǥô ̸ м operand ̸ ̹ ŵǾ 
+						if (parsedOperand.mode == Operand.LITERAL)
+							targetAddress = litTab.search(parsedOperand.name, parsedOperand.key);
+						else
+							targetAddress = symTab.search(parsedOperand.name, parsedOperand.key);
+						lastReference = parsedOperand;
 					}
 					//  token immediate addressing 
 					// iFlag Ǿִ , operand   
 					else if (currentToken.getFlag(iFlag) == iFlag)
 					{
-						//  token operand 
-						operandData = currentToken.operand[0];
-
-						// operand '#' ǥõǾ Ƿ 
-						if (operandData.contains("#"))
-							operandData = operandData.replaceAll("#", "");
-
-						// operand '#' ŵ  κ Ÿּҷ 
-						targetAddress = Integer.parseInt(operandData);
+						// ̸ м  Ÿּҷ 
+						//  ƴ ɺ̶ ɺ ּҸ 
+						if (parsedOperand.constant)
+							targetAddress = parsedOperand.value;
+						else
+						{
+							targetAddress = symTab.search(parsedOperand.name, parsedOperand.key);
+							lastReference = parsedOperand;
+						}
 					}
 					
 					//  token PC relative 
@@ -173,23 +325,35 @@ public class TokenTable
 						// Ÿ ּҿ PC  
 						targetAddress -= programCounter;
 					}
+					//  token base relative 
+					// bFlag Ǿִ 
+					else if (currentToken.getFlag(bFlag) == bFlag)
+					{
+						// Ÿ ּҿ BASE þ  base register  
+						targetAddress -= baseRegister;
+					}
 					//  token 4 
 					// eFlag Ǿִ 
 					else if (currentToken.getFlag(eFlag) == eFlag)
 					{
-						// Ÿ ּҸ 0 
-						targetAddress = 0;
+						// ܺ ɺ̶  ǿ ּҸ     Ÿ ּҸ 0 
+						// (modification record )
+						//   ɺ̶  ּҸ ״ 
+						if (targetAddress < 0)
+							targetAddress = 0;
 					}
 				}
 				// ̿  Ÿ ּҸ 0 
 				else
 					targetAddress = 0;
 				
-				// Ÿ ּҸ ش token Ʈ   ּҸ String ȯ
-				addressData = addressToString(targetAddress, currentToken.byteSize);
-				
 				//   opcode, xbpe, address  Ͽ  token object code 
-				currentToken.objectCode = String.format("%02X%01X", opcode, xbpe) + addressData;
+				// Ÿ ּҴ 4  5ڸ, 3  3ڸ ȯ (addressToString  Ģ)
+				char[] code = codeBuffer;
+				int length = putHex(code, 0, opcode, 2);
+				length = putHex(code, length, xbpe, 1);
+				length = putHex(code, length, targetAddress, currentToken.byteSize == 4 ? 5 : 3);
+				currentToken.objectCode = sharedCode(code, length);
 			}
 			// 2 ɾ 
 			else if (instTab.getFormat(operator) == 2)
@@ -197,92 +361,123 @@ public class TokenTable
 				// register1, register2:  ȣ 
 				int register1 = 0, register2 = 0;
 
-				// operand  1  
+				// operand  1  ̸ м ù°  ȣ 
+				// ι°  ȣ 0 
 				if (instTab.getNumberOfOperand(operator) == 1)
 				{
-					// operand     ȣ 
-					if (currentToken.operand[0].equals("A"))
-						register1 = 0;
-					else if (currentToken.operand[0].equals("X"))
-						register1 = 1;
-					else if (currentToken.operand[0].equals("L"))
-						register1 = 2;
-					else if (currentToken.operand[0].equals("B"))
-						register1 = 3;
-					else if (currentToken.operand[0].equals("S"))
-						register1 = 4;
-					else if (currentToken.operand[0].equals("T"))
-						register1 = 5;
-					
-					// ι°  ȣ 0 
+					register1 = parsedOperand.register1;
 					register2 = 0;
 				}
-				// operand  2 
+				// operand  2  ̸ м   ȣ 
 				else if (instTab.getNumberOfOperand(operator) == 2)
 				{
-					// ù° operand    ù  ȣ 
-					if (currentToken.operand[0].equals("A"))
-						register1 = 0;
-					else if (currentToken.operand[0].equals("X"))
-						register1 = 1;
-					else if (currentToken.operand[0].equals("L"))
-						register1 = 2;
-					else if (currentToken.operand[0].equals("B"))
-						register1 = 3;
-					else if (currentToken.operand[0].equals("S"))
-						register1 = 4;
-					else if (currentToken.operand[0].equals("T"))
-						register1 = 5;
-
-					// ι° operand    ι  ȣ 
-					if (currentToken.operand[1].equals("A"))
-						register2 = 0;
-					else if (currentToken.operand[1].equals("X"))
-						register2 = 1;
-					else if (currentToken.operand[1].equals("L"))
-						register2 = 2;
-					else if (currentToken.operand[1].equals("B"))
-						register2 = 3;
-					else if (currentToken.operand[1].equals("S"))
-						register2 = 4;
-					else if (currentToken.operand[1].equals("T"))
-						register2 = 5;
+					register1 = parsedOperand.register1;
+					register2 = parsedOperand.register2;
 				}
 				
 				//   opcode,  register  Ͽ  token object code  
-				currentToken.objectCode = String.format("%02X%01X%01X", opcode, register1, register2);
+				char[] code = codeBuffer;
+				int length = putHex(code, 0, opcode, 2);
+				length = putHex(code, length, register1, 1);
+				length = putHex(code, length, register2, 1);
+				currentToken.objectCode = sharedCode(code, length);
 			}
 		}
 		// operand "BYTE" "WORD" þ 
 		else if (operator.equals("BYTE") || operator.equals("WORD"))
 		{
-			// "BYTE" þ 
+			// "BYTE" þ  C'...', X'...'  ü   16 ȯϿ object code 
 			if (operator.equals("BYTE"))
-			{
-				// operand ù° ڰ 'X'  16 ̶ ̹Ƿ
-				if (currentToken.operand[0].charAt(0) == 'X')
-				{
-					// ͷ  κи  Ͽ object code 
-					operandData = currentToken.operand[0].replaceAll("X|\'", "");
-					currentToken.objectCode = operandData;
-				}
-			}
-			// "WORD" þ 
+				currentToken.objectCode = encodeConstant(currentToken.operand[0]);
+			// "WORD" þ  ','  Ҹ 3Ʈ ȯϿ object code 
 			else if (operator.equals("WORD"))
-			{
-				// ϴ ɺ operand ִ ˻
-				int i;
-				for (i = 0; i < extTab.getSize(); i++)
-				{
-					if (currentToken.operand[0].contains(extTab.getSymbol(i)))
-						break;
-				}
+				currentToken.objectCode = encodeWords(currentToken);
+		}
+		// "BASE" þ   base relative ɾ  base register  
+		else if (operator.equals("BASE"))
+		{
+			baseRegister = symTab.search(currentToken.operand[0]);
+		}
+		// "NOBASE" þ  base register  ̻  
+		else if (operator.equals("NOBASE"))
+		{
+			baseRegister = -1;
+		}
 
-				// operand ϴ ɺ   object code 0 ڸ ° 
-				if (i < extTab.getSize())
-					currentToken.objectCode = String.format("%06X", 0);
-			}
+		//      object code ٲ flag table  
+		if (columns != null)
+			columns.store(index, currentToken);
+	}
+
+	/**
+	 * 3 ɾ immediate ɺ ǿ(#ɺ) ǥ ּ    ū p, b flag ǥѴ.<br>
+	 * 밪 ɺ  ״ ϰ, ּ ɺ relaxation  PC relative, base relative  ǥ  ִ
+	 *  .  ǵ  ɺ flag ⸸ ϸ,  ǵ ʾҴٸ     ȴ.
+	 * 
+	 * @param token: ɾ ū. programCounter  ū  ּҿ 
+	 * @throws IllegalArgumentException: ܺ ɺ̰ų 3 ǥ   
+	 */
+	private void selectImmediateFlags(Token token)
+	{
+		// target: ɺ 
+		Operand operand = token.parsedOperand;
+		int target = symTab.search(operand.name, operand.key);
+		token.clearFlag(pFlag);
+		token.clearFlag(bFlag);
+
+		if (target < 0)
+		{
+			if (extTab.isReferencedIn(operand.name))
+				throw operandError(token, "external symbol needs format 4");
+		}
+		else if (symTab.isAbsolute(operand.name, operand.key))
+		{
+			if (target > 4095)
+				throw operandError(token, "value does not fit in format 3");
 		}
+		else if (target - programCounter >= -2048 && target - programCounter <= 2047)
+			token.setFlag(pFlag, 1);
+		else if (baseRegister >= 0 && target - baseRegister >= 0 && target - baseRegister <= 4095)
+			token.setFlag(bFlag, 1);
+		else
+			throw operandError(token, "address out of PC and base relative range in format 3");
+	}
+
+	/**
+	 * ū ǿڿ   . ū ҽ ڵ  ȣ ˰ ִٸ ޽ տ δ.
+	 * 
+	 * @param token:  ִ ū
+	 * @param message:  
+	 * @return:  
+	 */
+	static IllegalArgumentException operandError(Token token, String message)
+	{
+		String where = token.sourceLine > 0 ? "line " + token.sourceLine + ": " : "";
+		return new IllegalArgumentException(where + token.operator + " " + token.operand[0] + ": " + message);
+	}
+
+	/**
+	 * ̹ object code  Token object code ٽ . single pass  Token ó   ּҸ  
+	 *  ɺ ǵ  ȣѴ.<br>
+	 * PC base register ó object code    ϸ, ȣ ڿ   ´.
+	 * 
+	 * @param index: ٽ  Token index
+	 * @param programCounter: ó object code   PC 
+	 * @param baseRegister: ó object code   base register 
+	 */
+	public void remakeObjectCode(int index, int programCounter, int baseRegister)
+	{
+		//  PC, base register    
+		int currentCounter = this.programCounter, currentBase = this.baseRegister;
+		Operand currentReference = lastReference;
+
+		this.programCounter = programCounter;
+		this.baseRegister = baseRegister;
+		makeObjectCode(index);
+
+		this.programCounter = currentCounter;
+		this.baseRegister = currentBase;
+		lastReference = currentReference;
 	}
 
 	/**
@@ -293,7 +488,11 @@ public class TokenTable
 	 */
 	public String getObjectCode(int index)
 	{
-		return tokenList.get(index).objectCode;
+		//     Token ü  ʰ ٷ 
+		if (columns != null)
+			return columns.objectCodes == null ? null : columns.objectCodes[index];
+
+		return getToken(index).objectCode;
 	}
 
 	/**
@@ -303,6 +502,9 @@ public class TokenTable
 	 */
 	public int getSize()
 	{
+		if (columns != null)
+			return columns.size();
+
 		return tokenList.size();
 	}
 
@@ -315,27 +517,232 @@ public class TokenTable
 	 */
 	private String addressToString(int address, int size)
 	{
-		String addressData = "";
+		// ҽڵ尡 4 ɾ  ּҰ 5ڸ, 3 ɾ  3ڸ 
+		// address     ʿ ڸŭ µ
+		return toHex(address, size == 4 ? 5 : 3);
+	}
 
-		// ҽڵ尡 4 ɾ  ּҰ 5ڸ 
-		if (size == 4)
-			addressData = String.format("%05X", address);
-		// 3 ɾ  ּҰ 3ڸ 
-		else
-			addressData = String.format("%03X", address);
+	/**
+	 * WORD þ ҵ Ҹ 6ڸ 16 ȯϿ ̾ δ.<br>
+	 * Ҵ 10 ,   ɺ,  ɺ (A-B)  ϳ̴. ϴ ܺ ɺ  Ҵ 0
+	 * ȯϰ(modification record ),  ǵ  ɺ 0 . <br>
+	 * single pass  ҵ鿡  ɺ   ǵ  ɺ backpatch  ϵǹǷ, ɺ
+	 * ǵ  ٽ ȯǾ pass2   ȴ.
+	 * 
+	 * @param token: WORD þ Token
+	 * @return:   * 6 ڸ 16 ڿ
+	 */
+	private String encodeWords(Token token)
+	{
+		// code: ҵ 16 
+		// value:  
+		char[] code = new char[token.operand.length * 6];
+
+		for (int i = 0; i < token.operand.length; i++)
+		{
+			String element = token.operand[i];
+			int value;
+
+			if (extTab.isReferencedIn(element))
+				value = 0;
+			else if (isDecimal(element))
+				value = Integer.parseInt(element);
+			else if (element.indexOf('-') > 0)
+			{
+				//  ɺ 
+				int minus = element.indexOf('-');
+				value = Math.max(symTab.search(element.substring(0, minus)), 0)
+						- Math.max(symTab.search(element.substring(minus + 1)), 0);
+			}
+			else
+				value = Math.max(symTab.search(element), 0);
+
+			for (int j = 5; j >= 0; j--)
+			{
+				code[i * 6 + j] = HEX_DIGITS[value & 0xF];
+				value >>= 4;
+			}
+		}
+
+		return new String(code);
+	}
+
+	/**
+	 * ڿ ȣ   ִ 10  ȮѴ.
+	 */
+	static boolean isDecimal(String string)
+	{
+		int start = string.startsWith("-") ? 1 : 0;
+		if (string.length() == start || string.length() > start + 9)
+			return false;
+
+		for (int i = start; i < string.length(); i++)
+			if (string.charAt(i) < '0' || string.charAt(i) > '9')
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * BYTE þ ͷ  ϴ Ʈ  Ѵ. ͷ '=' ǥô Ѵ.<br>
+	 * C'...'  , X'...' 16  ڸ 1Ʈ(Ȧ ڸ ø), 10  1Ʈ̴.
+	 * 
+	 * @param constant: C'...', X'...' Ǵ 10  
+	 * @return: Ʈ .    ¶ 0
+	 */
+	static int constantSize(String constant)
+	{
+		int start = constant.startsWith("=") ? 1 : 0;
+
+		if (constant.startsWith("C'", start) && constant.endsWith("'") && constant.length() >= start + 3)
+			return constant.length() - start - 3;
+		else if (constant.startsWith("X'", start) && constant.endsWith("'") && constant.length() >= start + 3)
+			return (constant.length() - start - 2) / 2;
+		else if (isDecimal(constant.substring(start)))
+			return 1;
+
+		return 0;
+	}
+
+	/**
+	 * BYTE þ ͷ  object code(빮 16 ڿ) ȯѴ. ͷ '=' ǥô Ѵ.<br>
+	 * C'...' ڸ Ʈ  16  ڸ  table   ϰ, X'...' 빮ڷ ٲپ
+	 * ״ ϵ Ȧ ڸ տ 0 δ. 10  Ʒ 1Ʈ Ѵ.
+	 * 
+	 * @param constant: C'...', X'...' Ǵ 10  
+	 * @return: constantSize * 2 ڸ 16 ڿ.    ¶ null
+	 */
+	static String encodeConstant(String constant)
+	{
+		// size:  Ʈ 
+		int start = constant.startsWith("=") ? 1 : 0;
+		int size = constantSize(constant);
+
+		if (constant.startsWith("C'", start) && size == constant.length() - start - 3)
+		{
+			char[] hex = new char[size * 2];
+			for (int i = 0, b; i < size; i++)
+			{
+				b = (constant.charAt(start + 2 + i) & 0xFF) * 2;
+				hex[i * 2] = HEX_PAIRS[b];
+				hex[i * 2 + 1] = HEX_PAIRS[b + 1];
+			}
+			return new String(hex);
+		}
+		else if (constant.startsWith("X'", start))
+		{
+			String digits = constant.substring(start + 2, constant.length() - 1).toUpperCase();
+			return digits.length() % 2 == 0 ? digits : "0" + digits;
+		}
+		else if (size == 1)
+			return toHex(Integer.parseInt(constant.substring(start)) & 0xFF, 2);
+
+		return null;
+	}
+
+	/**
+	 *  빮 16 ڿ ȯѴ. String.format("%0nX")    table .<br>
+	 *  Ʒ digits ڸ ϰ,  digits ڸ Ѵ 쿡  ڸ Ѵ.
+	 * 
+	 * @param value: ȯ 
+	 * @param digits: ּ ڸ
+	 * @return: 16 ڿ
+	 */
+	static String toHex(int value, int digits)
+	{
+		char[] hex = new char[8];
+		return new String(hex, 0, putHex(hex, 0, value, digits));
+	}
+
+	/**
+	 *  toHex  Ģ 빮 16 ȯϿ  迭 . ڿ  ʴ´.
+	 * 
+	 * @param hex: ڸ  迭
+	 * @param position: ù° ڸ  ġ
+	 * @param value: ȯ 
+	 * @param digits: ּ ڸ
+	 * @return:    ġ
+	 */
+	static int putHex(char[] hex, int position, int value, int digits)
+	{
+		//  ڸ Ѵ  ڸ ø
+		if (value > 0)
+			while (digits < 8 && (value >>> (digits * 4)) != 0)
+				digits++;
+
+		for (int i = position + digits - 1; i >= position; i--)
+		{
+			hex[i] = HEX_DIGITS[value & 0xF];
+			value >>>= 4;
+		}
+
+		return position + digits;
+	}
 
-		// address     ڸ  Ұϱ 
-		// String  ȯ ּҰ  ʿ ŭ  
-		if (address < 0)
+	/**
+	 *  toHex  Ģ 빮 16 ȯϿ StringBuilder ̾ δ. ڵ带   Ѵ.
+	 * 
+	 * @param builder: ̾  
+	 * @param value: ȯ 
+	 * @param digits: ּ ڸ
+	 * @return: builder
+	 */
+	static StringBuilder appendHex(StringBuilder builder, int value, int digits)
+	{
+		if (value > 0)
+			while (digits < 8 && (value >>> (digits * 4)) != 0)
+				digits++;
+
+		for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4)
+			builder.append(HEX_DIGITS[(value >>> shift) & 0xF]);
+
+		return builder;
+	}
+
+	/**
+	 *  toHex  Ģ ȯ  ڸ Ѵ. ڿ  ʰ  ũ⸦   Ѵ.
+	 * 
+	 * @param value: ȯ 
+	 * @param digits: ּ ڸ
+	 * @return: 16 ڿ 
+	 */
+	static int hexLength(int value, int digits)
+	{
+		if (value > 0)
+			while (digits < 8 && (value >>> (digits * 4)) != 0)
+				digits++;
+
+		return digits;
+	}
+
+	/**
+	 *  迭   object code ڿ Ѵ. ֱٿ     ִٸ  ڿ ٽ Ѵ.
+	 * 
+	 * @param code: object code ڵ
+	 * @param length:  
+	 * @return: object code ڿ
+	 */
+	private static String sharedCode(char[] code, int length)
+	{
+		// hash:  hash  (String.hashCode  )
+		int hash = 0;
+		for (int i = 0; i < length; i++)
+			hash = hash * 31 + code[i];
+
+		int slot = (hash ^ (hash >>> 12)) & (CODE_CACHE.length - 1);
+		String cached = CODE_CACHE[slot];
+		if (cached != null && cached.length() == length)
 		{
-			if (size == 3)
-				addressData = addressData.substring(addressData.length() - 3);
-			else if (size == 4)
-				addressData = addressData.substring(addressData.length() - 5);
+			int i = 0;
+			while (i < length && cached.charAt(i) == code[i])
+				i++;
+			if (i == length)
+				return cached;
 		}
-		
-		// String  ȯ ּҰ 
-		return addressData;
+
+		cached = new String(code, 0, length);
+		CODE_CACHE[slot] = cached;
+		return cached;
 	}
 }
 
@@ -350,6 +757,8 @@ class Token
 	String label;
 	String operator;
 	String[] operand;
+	// operand pass2 ٷ   ֵ ̸ м . operand ٸ null
+	Operand parsedOperand;
 	String comment;
 	char nixbpe;
 
@@ -357,6 +766,9 @@ class Token
 	String objectCode;
 	int byteSize;
 
+	// ū  ҽ ڵ  ȣ (1 ). INCLUDE ߰ ū INCLUDE  ȣ. source map 
+	int sourceLine;
+
 	// operator ɾ, ۷   
 	// Ȯϱ  ɾ ̺
 	InstTable instTable;
@@ -368,11 +780,73 @@ class Token
 	 *              α׷ ڵ
 	 */
 	public Token(String line, InstTable instTable)
+	{
+		this(line, instTable, true);
+	}
+
+	/**
+	 * Ŭ ʱȭ ϸ鼭 ٷ line ǹ м Ѵ. ּ pass2  Ƿ ū Է¿  ޸𸮸
+	 *   ִ.
+	 * 
+	 * @param line
+	 *              α׷ ڵ
+	 * @param keepComments
+	 *            ּ  
+	 */
+	Token(String line, InstTable instTable, boolean keepComments)
 	{
 		// token parsing  instruction table ũ
 		this.instTable = instTable;
 		// ڷ  line Ľ
 		parsing(line);
+
+		// ּ  ʴ  м  
+		if (!keepComments)
+			comment = null;
+	}
+
+	/**
+	 * м   Token .     Token ü   Ѵ.
+	 * 
+	 * @param instTable
+	 *            ũ instruction table
+	 */
+	Token(InstTable instTable)
+	{
+		this.instTable = instTable;
+	}
+
+	/**
+	 * ̹ м Token  ״ Ѵ. line ٽ м , ּҰ pass1 ȴ.
+	 * 
+	 * @param template
+	 *             Token
+	 */
+	public Token(Token template, InstTable instTable)
+	{
+		copy(template, instTable);
+	}
+
+	/**
+	 * ̹ м Token   Token . ٽ ϴ Token ּҰ object code .
+	 * 
+	 * @param template
+	 *             Token
+	 * @return:  Token
+	 */
+	Token copy(Token template, InstTable instTable)
+	{
+		this.instTable = instTable;
+		label = template.label;
+		operator = template.operator;
+		operand = template.operand;
+		parsedOperand = template.parsedOperand;
+		comment = template.comment;
+		nixbpe = template.nixbpe;
+		byteSize = template.byteSize;
+		location = 0;
+		objectCode = null;
+		return this;
 	}
 
 	/**
@@ -411,8 +885,17 @@ class Token
 			if (!(instTable.getNumberOfOperand(operator) == 0))
 			{
 				// ǿڰ   ","   operand 
+				// BYTE  C'A,B'ó ','   Ƿ  ʰ, WORD     
 				if (units.length > 2)
-					operand = units[2].split(",", TokenTable.MAX_OPERAND);
+				{
+					if (operator.equals("BYTE"))
+						operand = new String[] { units[2] };
+					else if (operator.equals("WORD"))
+						operand = units[2].split(",");
+					else
+						operand = units[2].split(",", TokenTable.MAX_OPERAND);
+					parsedOperand = Operand.parse(operand);
+				}
 
 				// ڸƮ   comment 
 				if (units.length > 3)
@@ -462,10 +945,11 @@ class Token
 
 					// ǿڿ "#" ǥõ 
 					// immediate addressing ϹǷ iFlag ǥ  pFlag ǥ 
+					// 4Ŀ pFlag ǥõǾ  Ƿ  ʰ 
 					if (operand[0].contains("#"))
 					{
 						setFlag(TokenTable.iFlag, 1);
-						setFlag(TokenTable.pFlag, 0);
+						clearFlag(TokenTable.pFlag);
 					}
 					// ǿڿ "@" ǥõ 
 					// indirect addressing ϹǷ nFlag ǥ
@@ -481,9 +965,8 @@ class Token
 					}
 				}
 			}
-			// ҽ ڵ ּҰ  token ּҰ ϰ ִ
-			// Assembler class  locCounter  
-			location = Assembler.locCounter;
+			// ּҰ ⼭  ʰ pass1  token ũ⸦ ʷ  
+			//  line м ٸ line ̸  thread ÿ   
 		}
 	}
 
@@ -507,6 +990,17 @@ class Token
 			nixbpe ^= flag;
 	}
 
+	/**
+	 * flag . setFlag(flag, 0) ޸ ̹  flag ص  ٲ ʴ´.
+	 * 
+	 * @param flag
+	 *            :  Ʈ ġ
+	 */
+	public void clearFlag(int flag)
+	{
+		nixbpe &= ~flag;
+	}
+
 	/**
 	 * ϴ flag    ִ. flag   ÿ  ÷׸    ϴ <br>
 	 * <br>
@@ -554,14 +1048,14 @@ class Token
 		// "BYTE" þ 
 		else if (operator.equals("BYTE"))
 		{
-			// BYTE ũⰡ 1̹Ƿ 1 ũⰪ  
-			size = 1;
+			// C'...', X'...'  Ʈ  ũⰪ 
+			size = TokenTable.constantSize(operand[0]);
 		}
 		// "WORD" þ 
 		else if (operator.equals("WORD"))
 		{
-			// WORD ũⰡ 3̹Ƿ 3 ũⰪ 
-			size = 3;
+			// Ҹ ũⰡ 3̹Ƿ   3   ũⰪ 
+			size = operand.length * 3;
 		}
 		// ̿ ڴ ޸𸮸  Ƿ 0 
 		else
@@ -0,0 +1,178 @@
+import java.util.Arrays;
+
+/**
+ *   ɺ  ū ϴ ū ϴ use-def . <br>
+ * ҽ ڵ   ٲ  ּҰ ٲ ɺ ϴ ū鸸 object code ٽ   Ѵ. <br>
+ * ϴ ū object code   ɺ ּҸ ã ū̴.  ǿڷ ɺ̳ ͷ ϴ 3, 4
+ * ɾ ɺ ҷ  WORD þ̴. ͷ "=" ǥø  ̸ Ѵ. <br>
+ *  ɺ ϴ ū FixupTable  迭   ġ ̾ chain ϸ, chain ó
+ * SymbolIndex ã´.
+ */
+public class UseDefIndex
+{
+	// ɺ ̸ ó  ū ġ
+	SymbolIndex definitions = new SymbolIndex();
+	// ɺ ̸  chain ù ġ. chain  -1
+	SymbolIndex heads = new SymbolIndex();
+
+	// 뺰  chain  ġ( -1) ϴ ū ġ
+	int[] next = new int[16];
+	int[] tokenIndexes = new int[16];
+	//   
+	int size;
+
+	/**
+	 * ū ̺  ū  .
+	 *
+	 * @param tokenTable: ּҰ   ū ̺
+	 */
+	public UseDefIndex(TokenTable tokenTable)
+	{
+		for (int j = 0; j < tokenTable.getSize(); j++)
+		{
+			Token token = tokenTable.getToken(j);
+			if (!token.label.equals("") && !token.label.equals(".") && definitions.get(token.label) < 0)
+				definitions.put(token.label, j);
+
+			addUses(token, j, tokenTable.instTab);
+		}
+	}
+
+	/**
+	 * ɺ ó  ū ġ Ѵ.
+	 *
+	 * @param symbol: ɺ ̸
+	 * @return: ū ġ. ǿ ǵ  ɺ̸ -1
+	 */
+	public int getDefinition(String symbol)
+	{
+		return definitions.get(symbol);
+	}
+
+	/**
+	 * ɺ ϴ chain ù ġ Ѵ.  ġ getNext, ū ġ getTokenIndex ´.
+	 *
+	 * @param symbol: ɺ ̸. ͷ "=" ǥø  ̸
+	 * @return: chain ù ġ. ϴ ū  -1
+	 */
+	public int getFirstUse(String symbol)
+	{
+		return heads.get(symbol);
+	}
+
+	/**
+	 * chain   ġ Ѵ.
+	 *
+	 * @param use: chain  ġ
+	 * @return:  ġ.  -1
+	 */
+	public int getNext(int use)
+	{
+		return next[use];
+	}
+
+	/**
+	 * chain  ġ ϵ ū ġ Ѵ.
+	 *
+	 * @param use: chain  ġ
+	 */
+	public int getTokenIndex(int use)
+	{
+		return tokenIndexes[use];
+	}
+
+	/**
+	 * ū ϴ ɺ ο ߰Ѵ.
+	 *
+	 * @param token: ߰ ū
+	 * @param tokenIndex: ū ġ
+	 * @param instTable: ɾ  instruction table
+	 */
+	public void addUses(Token token, int tokenIndex, InstTable instTable)
+	{
+		String[] symbols = getUsedSymbols(token, instTable);
+		for (int k = 0; k < symbols.length; k++)
+		{
+			if (size == next.length)
+			{
+				next = Arrays.copyOf(next, size * 2);
+				tokenIndexes = Arrays.copyOf(tokenIndexes, size * 2);
+			}
+
+			// chain տ ߰
+			next[size] = getFirstUse(symbols[k]);
+			tokenIndexes[size] = tokenIndex;
+			heads.put(symbols[k], size);
+			size++;
+		}
+	}
+
+	/**
+	 * ū ϴ ɺ ο . ū ٸ  ٲ  ȣѴ. <br>
+	 * chain  ڸ ٽ  ʴ´.
+	 *
+	 * @param token:  ū (ٲ  )
+	 * @param tokenIndex: ū ġ
+	 * @param instTable: ɾ  instruction table
+	 */
+	public void removeUses(Token token, int tokenIndex, InstTable instTable)
+	{
+		String[] symbols = getUsedSymbols(token, instTable);
+		for (int k = 0; k < symbols.length; k++)
+		{
+			// previous: chain 󿡼  ġ  ġ
+			int previous = -1;
+			for (int use = getFirstUse(symbols[k]); use >= 0; previous = use, use = next[use])
+			{
+				if (tokenIndexes[use] != tokenIndex)
+					continue;
+
+				if (previous < 0)
+					heads.put(symbols[k], next[use]);
+				else
+					next[previous] = next[use];
+				break;
+			}
+		}
+	}
+
+	/**
+	 * ū object code   ּҸ ã ɺ Ѵ. TokenTable.makeObjectCode  Ģ Ѵ.
+	 *
+	 * @param token: ˻ ū
+	 * @param instTable: ɾ  instruction table
+	 * @return: ɺ ̸. ͷ "=" ǥø  ̸
+	 */
+	static String[] getUsedSymbols(Token token, InstTable instTable)
+	{
+		Operand parsedOperand = token.parsedOperand;
+		if (token.operator == null || parsedOperand == null)
+			return new String[0];
+
+		// WORD þ ڰ ƴ Ҹ '-'  ɺ 
+		if (token.operator.equals("WORD"))
+		{
+			StringBuilder symbols = new StringBuilder();
+			for (String element : token.operand)
+			{
+				if (TokenTable.isDecimal(element))
+					continue;
+				for (String symbol : element.split("-"))
+					symbols.append(symbol).append(',');
+			}
+			return symbols.length() == 0 ? new String[0] : symbols.toString().split(",");
+		}
+
+		String operator = token.operator.startsWith("+") ? token.operator.substring(1) : token.operator;
+		if (!instTable.isInstruction(operator) || instTable.getFormat(operator) != 3 || instTable.getNumberOfOperand(operator) < 1)
+			return new String[0];
+
+		// simple, indirect addressing ͷ ɺ Ǵ ͷ ּҸ,  ƴ immediate addressing ɺ ּҸ 
+		if (token.getFlag(TokenTable.nFlag) == TokenTable.nFlag)
+			return new String[] { parsedOperand.mode == Operand.LITERAL ? "=" + parsedOperand.name : parsedOperand.name };
+		if (token.getFlag(TokenTable.iFlag) == TokenTable.iFlag && !parsedOperand.constant)
+			return new String[] { parsedOperand.name };
+
+		return new String[0];
+	}
+}